@@ -0,0 +1,153 @@
+package io.github.piscescup.mc.fabric.register.tag;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.item.Item;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagGroupLoader;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.util.Identifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link TagMembershipIndex.Handle#contains} with {@link RegistryEntry#isIn(TagKey)} on
+ * the bootstrapped item registry.
+ * <p>
+ * The item tags are bound by the setup: {@value #TAGS} tags with random members, so that every
+ * entry carries a few tags, as it would in game. Each invocation tests {@value #LOOKUPS} entries
+ * drawn at random, against a tag holding about half of the items.
+ * <p>
+ * Only {@link #handleContainsRawId()} measures the indexed path on its own, a raw id being known
+ * beforehand; the {@code ViaGetRawId} benchmarks include the hashed raw id lookup of the element
+ * and entry overloads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagMembershipIndexBenchmark {
+    private static final int TAGS = 32;
+
+    private static final int LOOKUPS = 4_096;
+
+    private static final TagKey<Item> TAG = TagKey.of(RegistryKeys.ITEM, Identifier.of("pc-dev-lib", "benchmark/indexed"));
+
+    private RegistryEntry.Reference<Item>[] entries;
+
+    private Item[] items;
+
+    private int[] rawIds;
+
+    private TagMembershipIndex.Handle<Item> handle;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+
+        Random random = new Random(42L);
+        List<RegistryEntry.Reference<Item>> all = Registries.ITEM.streamEntries().toList();
+
+        Map<TagKey<Item>, List<RegistryEntry<Item>>> tags = new HashMap<>();
+        List<RegistryEntry<Item>> indexed = new ArrayList<>();
+        for (RegistryEntry.Reference<Item> entry : all) {
+            if (random.nextBoolean()) indexed.add(entry);
+        }
+        tags.put(TAG, indexed);
+        for (int i = 0; i < TAGS - 1; i++) {
+            List<RegistryEntry<Item>> members = new ArrayList<>();
+            for (RegistryEntry.Reference<Item> entry : all) {
+                if (random.nextInt(6) == 0) members.add(entry);
+            }
+            tags.put(TagKey.of(RegistryKeys.ITEM, Identifier.of("pc-dev-lib", "benchmark/other_" + i)), members);
+        }
+        Registries.ITEM.startTagReload(new TagGroupLoader.RegistryTags<>(RegistryKeys.ITEM, tags)).apply();
+
+        this.entries = new RegistryEntry.Reference[LOOKUPS];
+        this.items = new Item[LOOKUPS];
+        this.rawIds = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            RegistryEntry.Reference<Item> entry = all.get(random.nextInt(all.size()));
+            this.entries[i] = entry;
+            this.items[i] = entry.value();
+            this.rawIds[i] = Registries.ITEM.getRawId(entry.value());
+        }
+
+        TagMembershipIndex.rebuild();
+        this.handle = TagMembershipIndex.handle(TAG);
+        if (this.handle.size() != indexed.size()) {
+            throw new IllegalStateException(
+                "Indexed " + this.handle.size() + " items, expected " + indexed.size()
+            );
+        }
+    }
+
+    /**
+     * The vanilla path: a lookup in the tag set of the entry.
+     */
+    @Benchmark
+    public int isIn() {
+        int hits = 0;
+        for (RegistryEntry.Reference<Item> entry : this.entries) {
+            if (entry.isIn(TAG)) hits++;
+        }
+        return hits;
+    }
+
+    /**
+     * {@link TagMembershipIndex.Handle#contains(RegistryEntry)}: a hashed raw id lookup, then a bit test.
+     */
+    @Benchmark
+    public int handleContainsEntryViaGetRawId() {
+        int hits = 0;
+        for (RegistryEntry.Reference<Item> entry : this.entries) {
+            if (this.handle.contains(entry)) hits++;
+        }
+        return hits;
+    }
+
+    /**
+     * {@link TagMembershipIndex.Handle#contains(Object)}: a hashed raw id lookup, then a bit test.
+     */
+    @Benchmark
+    public int handleContainsElementViaGetRawId() {
+        int hits = 0;
+        for (Item item : this.items) {
+            if (this.handle.contains(item)) hits++;
+        }
+        return hits;
+    }
+
+    /**
+     * {@link TagMembershipIndex.Handle#contains(int)}: one array read and a bit test.
+     */
+    @Benchmark
+    public int handleContainsRawId() {
+        int hits = 0;
+        for (int rawId : this.rawIds) {
+            if (this.handle.contains(rawId)) hits++;
+        }
+        return hits;
+    }
+}
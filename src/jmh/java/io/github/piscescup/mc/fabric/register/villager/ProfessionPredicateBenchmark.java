@@ -0,0 +1,125 @@
+package io.github.piscescup.mc.fabric.register.villager;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.PointOfInterestTypeTags;
+import net.minecraft.registry.tag.TagGroupLoader;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.village.VillagerProfession;
+import net.minecraft.world.poi.PointOfInterestType;
+import net.minecraft.world.poi.PointOfInterestTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Compares the workstation predicates of {@link CompiledProfessionPredicates} with the original
+ * predicates on the bootstrapped point of interest type registry.
+ * <p>
+ * The setup binds the vanilla {@link PointOfInterestTypeTags#ACQUIRABLE_JOB_SITE} tag, as the data
+ * pack would, and compiles a librarian-like profession: the held workstation is a single type and
+ * the acquirable workstations are the default tag test. Each invocation tests {@value #LOOKUPS}
+ * entries drawn at random among every point of interest type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfessionPredicateBenchmark {
+    private static final int LOOKUPS = 4_096;
+
+    private static final List<RegistryKey<PointOfInterestType>> JOB_SITES = List.of(
+        PointOfInterestTypes.ARMORER, PointOfInterestTypes.BUTCHER, PointOfInterestTypes.CARTOGRAPHER,
+        PointOfInterestTypes.CLERIC, PointOfInterestTypes.FARMER, PointOfInterestTypes.FISHERMAN,
+        PointOfInterestTypes.FLETCHER, PointOfInterestTypes.LEATHERWORKER, PointOfInterestTypes.LIBRARIAN,
+        PointOfInterestTypes.MASON, PointOfInterestTypes.SHEPHERD, PointOfInterestTypes.TOOLSMITH,
+        PointOfInterestTypes.WEAPONSMITH
+    );
+
+    private static final Predicate<RegistryEntry<PointOfInterestType>> HELD =
+        entry -> entry.matchesKey(PointOfInterestTypes.LIBRARIAN);
+
+    private RegistryEntry<PointOfInterestType>[] entries;
+
+    private CompiledProfessionPredicates predicates;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+
+        Map<TagKey<PointOfInterestType>, List<RegistryEntry<PointOfInterestType>>> tags = Map.of(
+            PointOfInterestTypeTags.ACQUIRABLE_JOB_SITE,
+            JOB_SITES.stream().<RegistryEntry<PointOfInterestType>>map(Registries.POINT_OF_INTEREST_TYPE::getOrThrow).toList()
+        );
+        Registries.POINT_OF_INTEREST_TYPE.startTagReload(
+            new TagGroupLoader.RegistryTags<>(RegistryKeys.POINT_OF_INTEREST_TYPE, tags)
+        ).apply();
+
+        CompiledProfessionPredicates.enable();
+        this.predicates = new CompiledProfessionPredicates(HELD, VillagerProfession.IS_ACQUIRABLE_JOB_SITE);
+        CompiledProfessionPredicates.compileAll();
+
+        List<RegistryEntry.Reference<PointOfInterestType>> all = Registries.POINT_OF_INTEREST_TYPE.streamEntries().toList();
+        for (RegistryEntry<PointOfInterestType> entry : all) {
+            if (this.predicates.heldWorkstation().test(entry) != HELD.test(entry)
+                || this.predicates.acquirableWorkstation().test(entry) != VillagerProfession.IS_ACQUIRABLE_JOB_SITE.test(entry)) {
+                throw new IllegalStateException("Compiled predicates disagree on " + entry);
+            }
+        }
+
+        Random random = new Random(42L);
+        this.entries = new RegistryEntry[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            this.entries[i] = all.get(random.nextInt(all.size()));
+        }
+    }
+
+    @Benchmark
+    public int heldOriginal() {
+        return count(HELD);
+    }
+
+    @Benchmark
+    public int heldCompiled() {
+        return count(this.predicates.heldWorkstation());
+    }
+
+    @Benchmark
+    public int acquirableOriginal() {
+        return count(VillagerProfession.IS_ACQUIRABLE_JOB_SITE);
+    }
+
+    @Benchmark
+    public int acquirableCompiled() {
+        return count(this.predicates.acquirableWorkstation());
+    }
+
+    private int count(Predicate<RegistryEntry<PointOfInterestType>> predicate) {
+        int hits = 0;
+        for (RegistryEntry<PointOfInterestType> entry : this.entries) {
+            if (predicate.test(entry)) hits++;
+        }
+        return hits;
+    }
+}
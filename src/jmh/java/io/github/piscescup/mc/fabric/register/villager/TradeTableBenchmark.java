@@ -0,0 +1,173 @@
+package io.github.piscescup.mc.fabric.register.villager;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.village.TradeOffer;
+import net.minecraft.village.TradeOfferList;
+import net.minecraft.village.TradeOffers;
+import net.minecraft.village.TradedItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the headless parts of the villager trades registered through {@link VillagerRegister}:
+ * the weighted draws of {@link CompiledTradeTable.Level}, the {@link TradeTableSlotFactory} of a
+ * weighted group, the vanilla draw of a level-up from its pool, the {@link TradeOfferTemplate}
+ * copies and the restock of the resulting offers.
+ * <p>
+ * The offers are templates given upfront through {@link TradeOfferTemplate#of(TradeOffer)}, so no
+ * factory needs a world. The pool of each level holds {@value #PLAIN_OFFERS} plain offers and a
+ * weighted group of {@value #WEIGHTED_OFFERS} offers, over the {@value #LEVELS} villager levels.
+ * Run with {@code -prof gc}, as configured in the build, to get the allocation rate of each path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TradeTableBenchmark {
+    private static final int LEVELS = 5;
+    private static final int PLAIN_OFFERS = 4;
+    private static final int WEIGHTED_OFFERS = 8;
+    private static final int VILLAGERS = 256;
+    private static final int RESTOCKS_PER_LEVEL = 2;
+
+    private static final Item[] SOLD = {
+        Items.BREAD, Items.PAPER, Items.BOOK, Items.COMPASS, Items.LANTERN, Items.GLASS,
+        Items.CLOCK, Items.NAME_TAG, Items.ARROW, Items.BOW, Items.SHEARS, Items.BELL
+    };
+
+    private final Random random = Random.create(42L);
+
+    private CompiledTradeTable.Level level;
+
+    private long[] drawn;
+
+    private TradeOffers.Factory slot;
+
+    private TradeOffers.Factory[] pool;
+
+    private TradeOffers.Factory template;
+
+    private TradeOfferList offers;
+
+    private Int2ObjectMap<TradeOffers.Factory[]> pools;
+
+    @Setup
+    public void setup() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+
+        List<CompiledTradeTable.WeightedFactory> weighted = new ArrayList<>(WEIGHTED_OFFERS);
+        for (int i = 0; i < WEIGHTED_OFFERS; i++) {
+            weighted.add(new CompiledTradeTable.WeightedFactory(template(PLAIN_OFFERS + i), i + 1));
+        }
+        this.level = CompiledTradeTable.compile(Map.of(1, weighted)).level(1);
+        this.drawn = new long[this.level.maskLength()];
+        this.slot = new TradeTableSlotFactory(this.level);
+
+        this.pool = new TradeOffers.Factory[PLAIN_OFFERS + 1];
+        for (int i = 0; i < PLAIN_OFFERS; i++) {
+            this.pool[i] = template(i);
+        }
+        this.pool[PLAIN_OFFERS] = this.slot;
+        this.template = this.pool[0];
+
+        this.offers = new TradeOfferList();
+        for (int i = 0; i < PLAIN_OFFERS; i++) {
+            this.offers.add(this.pool[i].create(null, null, this.random));
+        }
+
+        this.pools = new Int2ObjectOpenHashMap<>(LEVELS);
+        for (int level = 1; level <= LEVELS; level++) {
+            this.pools.put(level, this.pool);
+        }
+    }
+
+    private static TradeOffers.Factory template(int index) {
+        return TradeOfferTemplate.of(new TradeOffer(
+            new TradedItem(Items.EMERALD, 1 + index), new ItemStack(SOLD[index % SOLD.length]), 16, 2, 0.05f
+        ));
+    }
+
+    @Benchmark
+    public int levelSample() {
+        return this.level.sample(this.random);
+    }
+
+    @Benchmark
+    public int levelSampleExcluding() {
+        Arrays.fill(this.drawn, 0L);
+        return this.level.sampleExcluding(this.random, this.drawn) + this.level.sampleExcluding(this.random, this.drawn);
+    }
+
+    @Benchmark
+    public TradeOffer slotFactoryCreate() {
+        return this.slot.create(null, null, this.random);
+    }
+
+    @Benchmark
+    public TradeOffer templateCopy() {
+        return this.template.create(null, null, this.random);
+    }
+
+    /**
+     * Draws the offers of a level-up as {@code VillagerEntity#fillRecipesFromPool} does: the pool
+     * is copied, and distinct entries are removed at random until enough offers are created.
+     */
+    @Benchmark
+    public TradeOfferList vanillaPoolDraw() {
+        TradeOfferList recipes = new TradeOfferList();
+        List<TradeOffers.Factory> remaining = new ArrayList<>(Arrays.asList(this.pool));
+        int count = 0;
+        while (count < CompiledTradeTable.OFFERS_PER_LEVEL && !remaining.isEmpty()) {
+            TradeOffer offer = remaining.remove(this.random.nextInt(remaining.size())).create(null, null, this.random);
+            if (offer != null) {
+                recipes.add(offer);
+                count++;
+            }
+        }
+        return recipes;
+    }
+
+    /**
+     * Uses every offer once, then restocks them as {@code VillagerEntity#restock} does.
+     */
+    @Benchmark
+    public TradeOfferList restock() {
+        for (TradeOffer offer : this.offers) {
+            offer.use();
+        }
+        for (TradeOffer offer : this.offers) {
+            offer.updateDemandBonus();
+            offer.resetUses();
+        }
+        return this.offers;
+    }
+
+    @Benchmark
+    public TradeTableSimulator.Report simulate() {
+        return TradeTableSimulator.simulate(this.pools, VILLAGERS, RESTOCKS_PER_LEVEL, 42L);
+    }
+}
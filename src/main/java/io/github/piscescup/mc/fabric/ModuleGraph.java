@@ -0,0 +1,196 @@
+package io.github.piscescup.mc.fabric;
+
+import io.github.piscescup.mc.fabric.profiling.RegistrationProfiler;
+import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Dependency graph of the {@link Registered} modules collected by a {@link RegisterLamp}.
+ *
+ * <p>Each module is identified by a key (its declared class, or a unique token for anonymous
+ * modules) and may depend on other keys. The graph is able to:
+ * <ul>
+ *   <li>compute a deterministic topological order, breaking ties by insertion order, and</li>
+ *   <li>schedule module construction so that a module is only built once all of its
+ *       dependencies are ready, with independent modules running concurrently.</li>
+ * </ul>
+ *
+ * <p>This class is an implementation detail of {@link RegisterLamp} and is not thread-safe
+ * while it is being populated.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+final class ModuleGraph {
+
+    /**
+     * A single module in the graph.
+     *
+     * @param key          the module key
+     * @param index        the insertion index, used for deterministic tie-breaking
+     * @param supplier     the module supplier, may be null (ignored module)
+     * @param dependencies the keys this module depends on
+     */
+    record Node(
+        Object key,
+        int index,
+        Supplier<? extends Registered> supplier,
+        List<Object> dependencies
+    ) {
+        String describe() {
+            return key instanceof Class<?> type ? type.getSimpleName() : "<anonymous #" + index + ">";
+        }
+
+        static String describe(Object key) {
+            return key instanceof Class<?> type ? type.getSimpleName() : String.valueOf(key);
+        }
+    }
+
+    private final Map<Object, Node> nodes = new LinkedHashMap<>();
+
+    /**
+     * Adds a module to the graph.
+     *
+     * @param key          the module key; must be unique within the graph
+     * @param supplier     the module supplier
+     * @param dependencies the keys of the modules this module depends on
+     * @throws IllegalArgumentException if a module with the same key was already added
+     */
+    void add(Object key, Supplier<? extends Registered> supplier, List<?> dependencies) {
+        NullCheck.requireNonNull(key);
+        NullCheck.requireAllNonNull(dependencies);
+
+        if (this.nodes.containsKey(key)) {
+            throw new IllegalArgumentException(
+                "Module " + Node.describe(key) + " has already been added to this RegisterLamp."
+            );
+        }
+        this.nodes.put(key, new Node(key, this.nodes.size(), supplier, List.copyOf(dependencies)));
+    }
+
+    /**
+     * Computes a topological order of all modules.
+     *
+     * <p>Among modules whose dependencies are all satisfied, the one added first comes first,
+     * so a graph without any declared dependencies keeps plain insertion order.
+     *
+     * @return the modules in dependency order
+     * @throws IllegalStateException if a dependency is missing or the graph contains a cycle
+     */
+    List<Node> topologicalOrder() {
+        Map<Object, Integer> inDegree = new HashMap<>();
+        Map<Object, List<Node>> dependents = new HashMap<>();
+
+        for (Node node : this.nodes.values()) {
+            inDegree.put(node.key(), node.dependencies().size());
+            for (Object dependency : node.dependencies()) {
+                if (!this.nodes.containsKey(dependency)) {
+                    throw new IllegalStateException(
+                        "Module " + node.describe() + " depends on " + Node.describe(dependency)
+                            + ", which has not been added to this RegisterLamp."
+                    );
+                }
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(node);
+            }
+        }
+
+        PriorityQueue<Node> ready = new PriorityQueue<>(Comparator.comparingInt(Node::index));
+        this.nodes.values().stream()
+            .filter(node -> node.dependencies().isEmpty())
+            .forEach(ready::add);
+
+        List<Node> order = new ArrayList<>(this.nodes.size());
+        while (!ready.isEmpty()) {
+            Node node = ready.poll();
+            order.add(node);
+            for (Node dependent : dependents.getOrDefault(node.key(), List.of())) {
+                if (inDegree.merge(dependent.key(), -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (order.size() != this.nodes.size()) {
+            throw new IllegalStateException("Module dependency cycle detected: " + findCycle(inDegree));
+        }
+        return order;
+    }
+
+    /**
+     * Builds every module, constructing independent modules concurrently on the given executor.
+     *
+     * <p>The construction of a module is chained after its dependencies are {@code ready}, so
+     * the total time is bound by the critical path of the graph.
+     *
+     * @param order     the modules in topological order, see {@link #topologicalOrder()}
+     * @param executor  the executor used to construct the modules
+     * @param construct the construction of a single module, see {@link #construct(Node)}
+     * @param ready     the future completed once a module, given by key, may be used by its dependents
+     * @param <V>       the type of the construction result
+     * @return the pending construction results, keyed by module key, in the given order
+     */
+    static <V> Map<Object, CompletableFuture<V>> schedule(
+        List<Node> order,
+        Executor executor,
+        Function<Node, V> construct,
+        Function<Object, CompletableFuture<?>> ready
+    ) {
+        Map<Object, CompletableFuture<V>> futures = new LinkedHashMap<>();
+
+        for (Node node : order) {
+            CompletableFuture<?>[] dependencies = node.dependencies().stream()
+                .map(ready)
+                .toArray(CompletableFuture<?>[]::new);
+
+            futures.put(
+                node.key(),
+                CompletableFuture.allOf(dependencies).thenApplyAsync(ignored -> construct.apply(node), executor)
+            );
+        }
+        return futures;
+    }
+
+    /**
+     * Constructs a single module on the current thread, under the {@link RegistrationProfiler}.
+     *
+     * @param node the module to construct
+     * @return the constructed module, or null if the supplier is null or produced null
+     */
+    static Registered construct(Node node) {
+        Supplier<? extends Registered> supplier = node.supplier();
+        if (supplier == null) return null;
+        return RegistrationProfiler.profileModule(node.describe(), RegistrationProfiler.Phase.CONSTRUCT, supplier::get);
+    }
+
+    private String findCycle(Map<Object, Integer> inDegree) {
+        // Every node left with a positive in-degree lies on or behind a cycle; walking the
+        // unresolved dependencies from any of them must eventually revisit a node.
+        Node start = this.nodes.values().stream()
+            .filter(node -> inDegree.get(node.key()) > 0)
+            .findFirst()
+            .orElseThrow();
+
+        List<Node> path = new ArrayList<>();
+        Map<Object, Integer> visited = new HashMap<>();
+        Node current = start;
+        while (!visited.containsKey(current.key())) {
+            visited.put(current.key(), path.size());
+            path.add(current);
+            current = current.dependencies().stream()
+                .map(this.nodes::get)
+                .filter(dependency -> inDegree.get(dependency.key()) > 0)
+                .findFirst()
+                .orElseThrow();
+        }
+
+        StringJoiner joiner = new StringJoiner(" -> ");
+        path.subList(visited.get(current.key()), path.size())
+            .forEach(node -> joiner.add(node.describe()));
+        return joiner.add(current.describe()).toString();
+    }
+}
@@ -30,12 +30,15 @@ public class PCDevelopLib implements ModInitializer {
 
         if (FabricLoader.getInstance().isDevelopmentEnvironment()) {
             RegisterLamp.create()
-                .addModule(PCDevLibTestItems::new)
-                .addModule(PCDevLibTestItemGroups::new)
-                .addModule(PCDevLibTestItemTags::new)
-                .addModule(PCDevLibTestPOITags::new)
-                .addModule(PCDevLibTestPOIs::new)
-                .addModule(PCDevLibTestVillagers::new)
+                .addModule(PCDevLibTestItems.class, PCDevLibTestItems::new)
+                .addModule(PCDevLibTestItemGroups.class, PCDevLibTestItemGroups::new, PCDevLibTestItems.class)
+                .addModule(PCDevLibTestItemTags.class, PCDevLibTestItemTags::new)
+                .addModule(PCDevLibTestPOITags.class, PCDevLibTestPOITags::new, PCDevLibTestPOIs.class)
+                .addModule(PCDevLibTestPOIs.class, PCDevLibTestPOIs::new)
+                .addModule(
+                    PCDevLibTestVillagers.class, PCDevLibTestVillagers::new,
+                    PCDevLibTestPOIs.class, PCDevLibTestItems.class
+                )
                 .registerAll(MOD_NAME);
         }
 
@@ -12,6 +12,8 @@ public class PCDevelopLibDataGenerator implements DataGeneratorEntrypoint {
 		FabricDataGenerator.Pack pack = fabricDataGenerator.createPack();
 
 		DataGenerationProviderConfig.create()
+			.parallelism(4)
+			.incremental(true)
 			.addLanguageFactory(MCLanguageOption.ZH_CN)
 			.addLanguageFactory(MCLanguageOption.EN_US)
 			.addTagKeyFactory(TagKeyGenerationOption.ITEM_TAGS)
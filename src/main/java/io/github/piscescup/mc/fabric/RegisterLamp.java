@@ -1,9 +1,20 @@
 package io.github.piscescup.mc.fabric;
 
+import io.github.piscescup.mc.fabric.profiling.RegistrationProfiler;
+import io.github.piscescup.mc.fabric.register.DeferredRegistry;
+import io.github.piscescup.mc.fabric.register.Register;
+import io.github.piscescup.mc.fabric.register.RegisterSeal;
+import io.github.piscescup.mc.fabric.register.RegistrationCapture;
 import io.github.piscescup.mc.fabric.utils.CheckUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 
@@ -21,11 +32,52 @@ import java.util.function.Supplier;
  * useful when registration depends on environment state, registry availability,
  * or other late-bound conditions.
  *
+ * <h2>Module dependencies</h2>
+ * <p>Modules added with {@link #addModule(Class, Supplier, Class[])} may declare the
+ * modules they depend on. The modules are then built in dependency order, and with a
+ * {@link #parallelism(int) parallelism} above {@code 1}, independent modules are built
+ * concurrently, so startup time follows the critical path of the module graph instead of
+ * the total module count.
+ *
+ * <p>The registrations performed while a module is constructed concurrently are not applied
+ * right away: they are captured per module (see {@link RegistrationCapture}) and committed on the
+ * calling thread, module after module in topological order, once every module has been
+ * constructed. Registries are therefore filled in the same order, and raw ids are the same,
+ * whatever the parallelism. A module is only constructed once the registrations of its
+ * dependencies have been committed, so it may use their objects. In return, the object of a
+ * register captured this way is not available while its own module is constructed: holders
+ * should keep the post-registration instance or the registry key, or use a
+ * {@link io.github.piscescup.mc.fabric.register.DeferredHandle DeferredHandle}, rather than call
+ * {@code get()} on their own entries in a static initializer. A holder class shared
+ * by several modules must be reached through declared dependencies, so that the module
+ * initializing it is always the same one. {@link Registered#register(String)} is always invoked
+ * on the calling thread, in a deterministic topological order.
+ *
+ * <h2>Deferred registrations</h2>
+ * <p>Once every module has been constructed, and before any {@link Registered#register(String)}
+ * is invoked, all pending {@link io.github.piscescup.mc.fabric.register.DeferredHandle deferred}
+ * entries are registered in one batch by {@link DeferredRegistry#registerAll()}.
+ *
+ * <h2>Sealing</h2>
+ * <p>Once every module is registered, the lamp runs the {@link RegisterSeal seal phase}, which
+ * releases the builder state every register keeps after registration. This can be turned off
+ * with {@link #sealAfterRegistration(boolean)}, e.g. when several lamps share registers.
+ *
+ * <h2>Profiling</h2>
+ * <p>The construction and registration of every module is measured by the
+ * {@link RegistrationProfiler}, which emits JFR events and, when enabled, logs a
+ * {@link io.github.piscescup.mc.fabric.profiling.RegistrationReport RegistrationReport}
+ * once {@link #registerAll(String)} completes, followed by the
+ * {@link io.github.piscescup.mc.fabric.profiling.SealReport SealReport} of the seal phase.
+ *
  * <p>Typical usage:
  * <pre>{@code
  * RegisterLamp.create()
- *     .addModule(ModItems::new)
- *     .addModule(ModBlocks::new)
+ *     .addModule(ModItems.class, ModItems::new)
+ *     .addModule(ModBlocks.class, ModBlocks::new)
+ *     .addModule(ModVillagers.class, ModVillagers::new, ModItems.class, ModPOIs.class)
+ *     .addModule(ModPOIs.class, ModPOIs::new)
+ *     .parallelism(4)
  *     .registerAll(MOD_ID);
  * }</pre>
  *
@@ -37,10 +89,14 @@ import java.util.function.Supplier;
  */
 public final class RegisterLamp {
 
-    private final List<Supplier<Registered>> registeredModules;
+    private final ModuleGraph registeredModules;
+
+    private int parallelism = 1;
+
+    private boolean seal = true;
 
     private RegisterLamp() {
-        this.registeredModules = new ArrayList<>();
+        this.registeredModules = new ModuleGraph();
     }
 
     /**
@@ -57,12 +113,73 @@ public final class RegisterLamp {
      *
      * <p>The supplied {@link Registered} instance will not be created immediately;
      * instead, it will be instantiated when {@link #registerAll(String)} is invoked.
+     * Modules added this way have no dependencies and cannot be depended on.
      *
      * @param moduleSupplier a supplier that provides a {@link Registered} module
      * @return this {@code RegisterLamp} instance for fluent chaining
      */
     public RegisterLamp addModule(Supplier<Registered> moduleSupplier) {
-        this.registeredModules.add(moduleSupplier);
+        this.registeredModules.add(new Object(), moduleSupplier, List.of());
+        return this;
+    }
+
+    /**
+     * Adds a registration module supplier that depends on other modules.
+     *
+     * <p>The module will only be constructed once every module in {@code dependencies}
+     * has been constructed. Dependencies may be added before or after this module, but
+     * must all be added before {@link #registerAll(String)} is invoked.
+     *
+     * @param moduleType     the class of the module, used to identify it as a dependency
+     * @param moduleSupplier a supplier that provides the module
+     * @param dependencies   the classes of the modules this module depends on
+     * @param <M>            the module type
+     * @return this {@code RegisterLamp} instance for fluent chaining
+     * @throws NullPointerException     if {@code moduleType} or any dependency is null
+     * @throws IllegalArgumentException if {@code moduleType} has already been added
+     */
+    @SafeVarargs
+    public final <M extends Registered> RegisterLamp addModule(
+        Class<M> moduleType,
+        Supplier<? extends M> moduleSupplier,
+        Class<? extends Registered>... dependencies
+    ) {
+        CheckUtils.NullCheck.requireNonNull(moduleType);
+        CheckUtils.NullCheck.requireAllNonNull(dependencies);
+
+        this.registeredModules.add(moduleType, moduleSupplier, Arrays.asList(dependencies));
+        return this;
+    }
+
+    /**
+     * Sets the number of threads used to construct independent modules.
+     *
+     * <p>The default of {@code 1} constructs every module on the calling thread. Above {@code 1},
+     * the registrations of the modules are captured and only committed once every module has
+     * been constructed, see {@link RegisterLamp the class documentation}.
+     *
+     * @param parallelism the maximum number of modules constructed concurrently
+     * @return this {@code RegisterLamp} instance for fluent chaining
+     * @throws IllegalArgumentException if {@code parallelism} is less than 1
+     */
+    public RegisterLamp parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets whether the builder state of every register is released once all modules are registered.
+     *
+     * <p>Sealing is enabled by default.
+     *
+     * @param seal whether to run {@link RegisterSeal#sealAll()} at the end of {@link #registerAll(String)}
+     * @return this {@code RegisterLamp} instance for fluent chaining
+     */
+    public RegisterLamp sealAfterRegistration(boolean seal) {
+        this.seal = seal;
         return this;
     }
 
@@ -71,17 +188,99 @@ public final class RegisterLamp {
      *
      * <p>Null suppliers are ignored. Each non-null supplier is evaluated,
      * and the resulting {@link Registered} instance has its
-     * {@link Registered#register(String)} method invoked.
+     * {@link Registered#register(String)} method invoked, in dependency order.
+     * Pending deferred entries are registered after every module has been
+     * constructed and before the first {@link Registered#register(String)} call.
+     * Finally, every register is sealed, unless disabled by {@link #sealAfterRegistration(boolean)}.
      *
      * @param modName the mod identifier or namespace used during registration
+     * @throws IllegalStateException if a declared dependency is missing or the
+     *                               module dependencies form a cycle
      */
     public void registerAll(String modName) {
         String name = CheckUtils.NullCheck.requireNonNullOrElse(modName, "<Empty Mod Name>");
 
-        registeredModules.stream()
-            .filter(CheckUtils.NullCheck::nonNull)
-            .map(Supplier::get)
-            .filter(CheckUtils.NullCheck::nonNull)
-            .forEach(registered -> registered.register(name));
+        List<ModuleGraph.Node> order = this.registeredModules.topologicalOrder();
+
+        List<Registered> modules;
+        if (this.parallelism == 1 || order.size() < 2) {
+            modules = order.stream()
+                .map(ModuleGraph::construct)
+                .toList();
+        } else {
+            modules = this.constructConcurrently(order);
+        }
+
+        DeferredRegistry.registerAll();
+
+        for (int i = 0; i < order.size(); i++) {
+            register(order.get(i), modules.get(i), name);
+        }
+
+        RegistrationProfiler.logReport();
+
+        if (this.seal) {
+            RegisterSeal.sealAll();
+        }
+    }
+
+    /**
+     * Constructs the modules concurrently, capturing their registrations, and commits the
+     * registrations of each module on the calling thread in topological order. A module is only
+     * constructed once the registrations of its dependencies have been committed, so that it may
+     * use the objects they registered.
+     */
+    private List<Registered> constructConcurrently(List<ModuleGraph.Node> order) {
+        Map<Object, CompletableFuture<Void>> committed = new HashMap<>();
+        order.forEach(node -> committed.put(node.key(), new CompletableFuture<>()));
+
+        ForkJoinPool pool = new ForkJoinPool(Math.min(this.parallelism, order.size()));
+        try {
+            Map<Object, CompletableFuture<RegistrationCapture.Captured<Registered>>> futures = ModuleGraph.schedule(
+                order,
+                pool,
+                node -> RegistrationCapture.capture(() -> ModuleGraph.construct(node)),
+                committed::get
+            );
+
+            List<Registered> modules = new ArrayList<>(order.size());
+            for (ModuleGraph.Node node : order) {
+                RegistrationCapture.Captured<Registered> captured = await(futures.get(node.key()));
+                commit(node, captured);
+                committed.get(node.key()).complete(null);
+                modules.add(captured.value());
+            }
+            return modules;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void register(ModuleGraph.Node node, Registered registered, String modName) {
+        if (registered == null) return;
+
+        RegistrationProfiler.profileModule(node.describe(), RegistrationProfiler.Phase.REGISTER, () -> {
+            registered.register(modName);
+            return null;
+        });
+    }
+
+    private static void commit(ModuleGraph.Node node, RegistrationCapture.Captured<Registered> captured) {
+        if (captured.registrations().isEmpty()) return;
+
+        RegistrationProfiler.profileModule(node.describe(), RegistrationProfiler.Phase.CONSTRUCT, () -> {
+            captured.commit();
+            return null;
+        });
+    }
+
+    private static <V> V await(CompletableFuture<V> module) {
+        try {
+            return module.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error error) throw error;
+            throw e;
+        }
     }
-}
\ No newline at end of file
+}
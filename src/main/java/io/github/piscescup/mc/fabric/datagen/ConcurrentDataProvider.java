@@ -0,0 +1,144 @@
+package io.github.piscescup.mc.fabric.datagen;
+
+import net.fabricmc.fabric.api.datagen.v1.FabricDataOutput;
+import net.minecraft.data.DataProvider;
+import net.minecraft.data.DataWriter;
+import net.minecraft.registry.RegistryWrapper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+
+/**
+ * A single {@link DataProvider} running the providers of several
+ * {@link DataGenerationProviderConfig.ProviderGroup provider groups} concurrently.
+ *
+ * <p>The data generator runs its providers one after another. Wrapping the providers of a
+ * {@link DataGenerationProviderConfig} into this one provider lets independent providers run
+ * at the same time, on at most {@code parallelism} threads, while a group only starts once
+ * every group it runs {@link DataGenerationProviderConfig.ProviderGroup#after(String...) after}
+ * has completed. The wall time of every provider is logged once all of them have completed.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+final class ConcurrentDataProvider implements DataProvider {
+    private record Member(String group, DataProvider provider) {}
+
+    private record Timing(String group, String provider, long nanos) {}
+
+    private final List<DataGenerationProviderConfig.ProviderGroup> groups;
+    private final Map<String, List<Member>> members;
+    private final int parallelism;
+
+    /**
+     * @param groups         the groups, in an order where every group comes after the groups it depends on
+     * @param parallelism    the maximum number of providers running at the same time
+     * @param incremental    whether providers with unchanged inputs are skipped
+     * @param output         the data output of the pack
+     * @param registryLookup the registry lookup of the pack
+     */
+    ConcurrentDataProvider(
+        List<DataGenerationProviderConfig.ProviderGroup> groups,
+        int parallelism,
+        boolean incremental,
+        FabricDataOutput output,
+        CompletableFuture<RegistryWrapper.WrapperLookup> registryLookup
+    ) {
+        this.groups = List.copyOf(groups);
+        this.parallelism = parallelism;
+        this.members = new HashMap<>();
+        for (DataGenerationProviderConfig.ProviderGroup group : groups) {
+            this.members.put(
+                group.getName(),
+                group.createFactories(incremental).stream()
+                    .map(factory -> new Member(group.getName(), factory.create(output, registryLookup)))
+                    .toList()
+            );
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> run(DataWriter writer) {
+        ExecutorService pool = Executors.newFixedThreadPool(this.parallelism, newThreadFactory());
+        Queue<Timing> timings = new ConcurrentLinkedQueue<>();
+        Map<String, CompletableFuture<Void>> groupFutures = new HashMap<>();
+        long start = System.nanoTime();
+
+        for (DataGenerationProviderConfig.ProviderGroup group : this.groups) {
+            CompletableFuture<Void> dependencies = CompletableFuture.allOf(
+                group.getAfter().stream().map(groupFutures::get).toArray(CompletableFuture<?>[]::new)
+            );
+
+            CompletableFuture<?>[] runs = this.members.get(group.getName()).stream()
+                .map(member -> dependencies.thenRunAsync(() -> runMember(member, writer, timings), pool))
+                .toArray(CompletableFuture<?>[]::new);
+
+            groupFutures.put(group.getName(), CompletableFuture.allOf(runs));
+        }
+
+        return CompletableFuture.allOf(groupFutures.values().toArray(CompletableFuture<?>[]::new))
+            .whenComplete((ignored, throwable) -> {
+                pool.shutdown();
+                logReport(timings, System.nanoTime() - start);
+            });
+    }
+
+    /**
+     * Returns a constant name: the data cache keys the cache file of a provider by its name, so
+     * the name must not change when providers are added or removed.
+     */
+    @Override
+    public String getName() {
+        return "PC Develop Lib providers";
+    }
+
+    private static void runMember(Member member, DataWriter writer, Queue<Timing> timings) {
+        long start = System.nanoTime();
+        try {
+            member.provider().run(writer).join();
+        } finally {
+            timings.add(new Timing(member.group(), member.provider().getName(), System.nanoTime() - start));
+        }
+    }
+
+    private void logReport(Queue<Timing> timings, long wallNanos) {
+        List<Timing> sorted = new ArrayList<>(timings);
+        sorted.sort(Comparator.comparingLong(Timing::nanos).reversed());
+
+        StringBuilder builder = new StringBuilder("Data generation report\n");
+        builder.append(String.format("  %-20s %-50s %12s%n", "Group", "Provider", "Wall ms"));
+        sorted.forEach(timing -> builder.append(String.format(
+            "  %-20s %-50s %12.3f%n", timing.group(), timing.provider(), timing.nanos() / 1.0e6
+        )));
+        builder.append(String.format(
+            "  %d providers in %d groups on %d threads: %.3f ms wall, %.3f ms summed%n",
+            sorted.size(),
+            this.groups.size(),
+            this.parallelism,
+            wallNanos / 1.0e6,
+            sorted.stream().mapToLong(Timing::nanos).sum() / 1.0e6
+        ));
+        MOD_LOGGER.info(builder.toString());
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "PC-Datagen-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
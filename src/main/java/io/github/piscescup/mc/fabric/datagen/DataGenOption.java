@@ -1,9 +1,12 @@
 package io.github.piscescup.mc.fabric.datagen;
 
+import com.google.common.hash.HashCode;
 import net.fabricmc.fabric.api.datagen.v1.FabricDataGenerator;
 import net.minecraft.data.DataProvider;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Optional;
+
 /**
  * <h2>Description</h2>
  *
@@ -23,4 +26,18 @@ public interface DataGenOption {
     @NotNull
     FabricDataGenerator.Pack.RegistryDependentFactory<DataProvider> toRegistryDependentFactory();
 
+    /**
+     * Computes a stable hash of everything the provider of this option generates its output from.
+     *
+     * <p>When {@link DataGenerationProviderConfig#incremental(boolean) incremental} data generation
+     * is enabled, a provider whose input hash is unchanged since the previous run is skipped, and
+     * its previous output is kept. The hash is computed when the provider runs, i.e. after every
+     * mod has been initialized.
+     *
+     * @return the input hash, or empty if the output of this option cannot be generated incrementally
+     */
+    default Optional<HashCode> computeInputHash() {
+        return Optional.empty();
+    }
+
 }
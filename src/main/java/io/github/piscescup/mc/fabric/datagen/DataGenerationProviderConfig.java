@@ -1,6 +1,8 @@
 package io.github.piscescup.mc.fabric.datagen;
 
+import com.google.common.hash.HashCode;
 import io.github.piscescup.mc.fabric.datagen.tag.TagKeyGenerationOption;
+import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
 import io.github.piscescup.mc.fabric.utils.constant.MCLanguageOption;
 import net.fabricmc.fabric.api.datagen.v1.FabricDataGenerator;
 import net.minecraft.data.DataProvider;
@@ -8,7 +10,16 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Central configuration holder for Fabric data generation providers.
@@ -35,17 +46,60 @@ import java.util.List;
  * tags, etc.) to be composed declaratively without exposing the underlying
  * Fabric API details to higher-level modules.
  *
+ * <h2>Concurrent providers</h2>
+ * <p>The data generator runs providers one after another. With a
+ * {@link #parallelism(int) parallelism} above {@code 1}, or once named
+ * {@link #group(String, Consumer) groups} are used, every provider of this
+ * configuration is instead run by a single wrapping provider, so that
+ * independent providers run concurrently and the whole configuration takes
+ * about as long as its slowest provider. Providers of the same group may run
+ * at the same time; a group declared to run {@link ProviderGroup#after(String...) after}
+ * other groups only starts once they have completed. The wall time of every
+ * provider is logged at the end of the run.
+ * <pre>{@code
+ * DataGenerationProviderConfig.create()
+ *     .parallelism(8)
+ *     .group("languages", group -> group
+ *         .addLanguageFactory(MCLanguageOption.EN_US)
+ *         .addLanguageFactory(MCLanguageOption.ZH_CN))
+ *     .group("tags", group -> group
+ *         .addTagKeyFactory(TagKeyGenerationOption.BLOCK_TAGS)
+ *         .addTagKeyFactory(TagKeyGenerationOption.ITEM_TAGS))
+ *     .group("recipes", group -> group
+ *         .addRegisterFactory(recipeOption)
+ *         .after("tags"))
+ *     .applyTo(pack);
+ * }</pre>
+ *
+ * <h2>Incremental generation</h2>
+ * <p>With {@link #incremental(boolean) incremental} generation enabled, every provider whose
+ * option can {@link DataGenOption#computeInputHash() hash its inputs} is skipped when its inputs
+ * are unchanged since the previous run, keeping its previous output.
+ *
  * @author REN YuanTong
  * @since 1.0.0
  */
 public final class DataGenerationProviderConfig {
 
     /**
-     * Collected registry-dependent provider factories that will be
-     * registered to the target data generation pack.
+     * The name of the group the {@code addXxxFactory(...)} methods of the configuration add to.
      */
-    private final List<FabricDataGenerator.Pack.RegistryDependentFactory<DataProvider>>
-        registryDependentFactories;
+    public static final String DEFAULT_GROUP = "default";
+
+    /**
+     * Provider groups, by name, in creation order.
+     */
+    private final Map<String, ProviderGroup> groups;
+
+    /**
+     * The maximum number of providers running at the same time.
+     */
+    private int parallelism = 1;
+
+    /**
+     * Whether providers with unchanged inputs are skipped.
+     */
+    private boolean incremental;
 
     /**
      * Private constructor.
@@ -54,7 +108,7 @@ public final class DataGenerationProviderConfig {
      * controlled construction and future extensibility.
      */
     private DataGenerationProviderConfig() {
-        this.registryDependentFactories = new ArrayList<>();
+        this.groups = new LinkedHashMap<>();
     }
 
     /**
@@ -71,7 +125,7 @@ public final class DataGenerationProviderConfig {
     }
 
     /**
-     * Adds a registry-related data generation factory.
+     * Adds a registry-related data generation factory to the {@link #DEFAULT_GROUP default group}.
      *
      * <p>This method is typically used for providers that generate
      * registry-backed data, such as item models, block states,
@@ -88,12 +142,12 @@ public final class DataGenerationProviderConfig {
     public DataGenerationProviderConfig addRegisterFactory(
         @NotNull DataGenOption option
     ) {
-        this.registryDependentFactories.add(option.toRegistryDependentFactory());
+        this.defaultGroup().addRegisterFactory(option);
         return this;
     }
 
     /**
-     * Adds a language (translation) data generation factory.
+     * Adds a language (translation) data generation factory to the {@link #DEFAULT_GROUP default group}.
      *
      * <p>This method is intended for registering language providers
      * (e.g. {@code en_us}, {@code zh_cn}) in a declarative and modular way.
@@ -104,12 +158,29 @@ public final class DataGenerationProviderConfig {
     public DataGenerationProviderConfig addLanguageFactory(
         @NotNull MCLanguageOption lang
     ) {
-        this.registryDependentFactories.add(lang.toRegistryDependentFactory());
+        this.defaultGroup().addLanguageFactory(lang);
         return this;
     }
 
     /**
-     * Adds a tag key data generation factory.
+     * Adds a language (translation) data generation factory to the {@link #DEFAULT_GROUP default group},
+     * optionally filling the keys missing in that language from its
+     * {@link MCLanguageOption#getFallbackChain() fallback chain}.
+     *
+     * @param lang              the language option describing the translation provider
+     * @param fillFromFallbacks whether missing keys are filled from the fallback languages
+     * @return this configuration instance for fluent chaining
+     */
+    public DataGenerationProviderConfig addLanguageFactory(
+        @NotNull MCLanguageOption lang,
+        boolean fillFromFallbacks
+    ) {
+        this.defaultGroup().addLanguageFactory(lang, fillFromFallbacks);
+        return this;
+    }
+
+    /**
+     * Adds a tag key data generation factory to the {@link #DEFAULT_GROUP default group}.
      *
      * <p>This method is used for registering tag providers for
      * registry-based objects such as items, blocks, fluids, or entity types.
@@ -120,7 +191,54 @@ public final class DataGenerationProviderConfig {
     public DataGenerationProviderConfig addTagKeyFactory(
         @NotNull TagKeyGenerationOption<?> tagKey
     ) {
-        this.registryDependentFactories.add(tagKey.toRegistryDependentFactory());
+        this.defaultGroup().addTagKeyFactory(tagKey);
+        return this;
+    }
+
+    /**
+     * Configures the provider group with the given name, creating it on first use.
+     *
+     * @param name       the group name
+     * @param configurer the action adding factories and ordering constraints to the group
+     * @return this configuration instance for fluent chaining
+     */
+    public DataGenerationProviderConfig group(
+        @NotNull String name,
+        @NotNull Consumer<ProviderGroup> configurer
+    ) {
+        NullCheck.requireNonNull(name);
+        NullCheck.requireNonNull(configurer);
+        configurer.accept(this.groups.computeIfAbsent(name, ProviderGroup::new));
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of providers running at the same time.
+     *
+     * <p>The default of {@code 1} keeps the data generator's own sequential execution,
+     * unless named groups are used.
+     *
+     * @param parallelism the maximum number of concurrently running providers
+     * @return this configuration instance for fluent chaining
+     * @throws IllegalArgumentException if {@code parallelism} is less than 1
+     */
+    public DataGenerationProviderConfig parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets whether providers whose inputs are unchanged since the previous run are skipped.
+     *
+     * @param incremental whether to skip providers with unchanged inputs
+     * @return this configuration instance for fluent chaining
+     * @see DataGenOption#computeInputHash()
+     */
+    public DataGenerationProviderConfig incremental(boolean incremental) {
+        this.incremental = incremental;
         return this;
     }
 
@@ -128,15 +246,192 @@ public final class DataGenerationProviderConfig {
      * Applies all collected provider factories to the given data
      * generation pack.
      *
-     * <p>Each stored {@link FabricDataGenerator.Pack.RegistryDependentFactory}
-     * is registered by invoking {@link FabricDataGenerator.Pack#addProvider}.
+     * <p>Without groups and parallelism, each stored
+     * {@link FabricDataGenerator.Pack.RegistryDependentFactory} is registered by
+     * invoking {@link FabricDataGenerator.Pack#addProvider}. Otherwise, a single
+     * provider running all of them concurrently is registered.
      *
      * <p>This method represents the terminal operation of the configuration
      * lifecycle.
      *
      * @param pack the Fabric data generation pack to apply providers to
+     * @throws IllegalStateException if a group runs after an unknown group, or if the
+     *                               ordering constraints between groups form a cycle
      */
     public void applyTo(FabricDataGenerator.@NotNull Pack pack) {
-        this.registryDependentFactories.forEach(pack::addProvider);
+        boolean sequential = this.parallelism == 1
+            && this.groups.keySet().stream().allMatch(DEFAULT_GROUP::equals);
+
+        if (sequential) {
+            this.groups.values().forEach(group -> group.createFactories(this.incremental).forEach(pack::addProvider));
+            return;
+        }
+
+        List<ProviderGroup> order = this.groupOrder();
+        int parallelism = this.parallelism;
+        boolean incremental = this.incremental;
+        pack.addProvider((output, registryLookup) ->
+            new ConcurrentDataProvider(order, parallelism, incremental, output, registryLookup)
+        );
+    }
+
+    private ProviderGroup defaultGroup() {
+        return this.groups.computeIfAbsent(DEFAULT_GROUP, ProviderGroup::new);
+    }
+
+    /**
+     * Orders the groups so that every group comes after the groups it runs after,
+     * keeping creation order otherwise.
+     */
+    private List<ProviderGroup> groupOrder() {
+        Map<String, Integer> remaining = new HashMap<>();
+        for (ProviderGroup group : this.groups.values()) {
+            for (String dependency : group.getAfter()) {
+                if (!this.groups.containsKey(dependency)) {
+                    throw new IllegalStateException(
+                        "Data generation group '" + group.getName() + "' runs after unknown group '" + dependency + "'."
+                    );
+                }
+            }
+            remaining.put(group.getName(), group.getAfter().size());
+        }
+
+        List<ProviderGroup> order = new ArrayList<>(this.groups.size());
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (ProviderGroup group : this.groups.values()) {
+                if (remaining.get(group.getName()) != 0) continue;
+
+                remaining.put(group.getName(), -1);
+                order.add(group);
+                progress = true;
+                this.groups.values().stream()
+                    .filter(dependent -> dependent.getAfter().contains(group.getName()))
+                    .forEach(dependent -> remaining.merge(dependent.getName(), -1, Integer::sum));
+                break;
+            }
+        }
+
+        if (order.size() != this.groups.size()) {
+            List<String> cyclic = this.groups.keySet().stream()
+                .filter(name -> remaining.get(name) > 0)
+                .toList();
+            throw new IllegalStateException("Data generation groups form an ordering cycle: " + cyclic);
+        }
+        return order;
+    }
+
+    /**
+     * A named group of data generation providers.
+     *
+     * <p>The providers of a group may run concurrently with each other and with the providers
+     * of any group not ordered relative to it.
+     */
+    public static final class ProviderGroup {
+        /**
+         * A provider factory, with the input hash of the option it was created from.
+         */
+        private record Entry(
+            FabricDataGenerator.Pack.RegistryDependentFactory<DataProvider> factory,
+            Supplier<Optional<HashCode>> inputHash
+        ) {}
+
+        private final String name;
+        private final List<Entry> entries;
+        private final Set<String> after;
+
+        private ProviderGroup(String name) {
+            this.name = name;
+            this.entries = new ArrayList<>();
+            this.after = new LinkedHashSet<>();
+        }
+
+        /**
+         * Adds a registry-related data generation factory to this group.
+         *
+         * @param option the data generation option describing the provider
+         * @return this group for fluent chaining
+         * @see DataGenerationProviderConfig#addRegisterFactory(DataGenOption)
+         */
+        public ProviderGroup addRegisterFactory(@NotNull DataGenOption option) {
+            this.entries.add(new Entry(option.toRegistryDependentFactory(), option::computeInputHash));
+            return this;
+        }
+
+        /**
+         * Adds a language (translation) data generation factory to this group.
+         *
+         * @param lang the language option describing the translation provider
+         * @return this group for fluent chaining
+         * @see DataGenerationProviderConfig#addLanguageFactory(MCLanguageOption)
+         */
+        public ProviderGroup addLanguageFactory(@NotNull MCLanguageOption lang) {
+            this.entries.add(new Entry(lang.toRegistryDependentFactory(), lang::computeInputHash));
+            return this;
+        }
+
+        /**
+         * Adds a language (translation) data generation factory to this group.
+         *
+         * @param lang              the language option describing the translation provider
+         * @param fillFromFallbacks whether missing keys are filled from the fallback languages
+         * @return this group for fluent chaining
+         * @see DataGenerationProviderConfig#addLanguageFactory(MCLanguageOption, boolean)
+         */
+        public ProviderGroup addLanguageFactory(@NotNull MCLanguageOption lang, boolean fillFromFallbacks) {
+            this.entries.add(new Entry(
+                lang.toRegistryDependentFactory(fillFromFallbacks),
+                () -> lang.computeInputHash(fillFromFallbacks)
+            ));
+            return this;
+        }
+
+        /**
+         * Adds a tag key data generation factory to this group.
+         *
+         * @param tagKey the tag key generation option
+         * @return this group for fluent chaining
+         * @see DataGenerationProviderConfig#addTagKeyFactory(TagKeyGenerationOption)
+         */
+        public ProviderGroup addTagKeyFactory(@NotNull TagKeyGenerationOption<?> tagKey) {
+            this.entries.add(new Entry(tagKey.toRegistryDependentFactory(), tagKey::computeInputHash));
+            return this;
+        }
+
+        /**
+         * Declares that the providers of this group only start once every provider of the
+         * given groups has completed.
+         *
+         * @param groups the names of the groups this group runs after
+         * @return this group for fluent chaining
+         */
+        public ProviderGroup after(@NotNull String... groups) {
+            NullCheck.requireAllNonNull(groups);
+            this.after.addAll(Arrays.asList(groups));
+            return this;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the provider factories of this group, skipping unchanged providers if {@code incremental}.
+         */
+        List<FabricDataGenerator.Pack.RegistryDependentFactory<DataProvider>> createFactories(boolean incremental) {
+            if (!incremental) {
+                return this.entries.stream().map(Entry::factory).toList();
+            }
+            return this.entries.stream()
+                .<FabricDataGenerator.Pack.RegistryDependentFactory<DataProvider>>map(entry -> (output, registryLookup) ->
+                    new IncrementalDataProvider(output, entry.factory().create(output, registryLookup), entry.inputHash())
+                )
+                .toList();
+        }
+
+        Set<String> getAfter() {
+            return after;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package io.github.piscescup.mc.fabric.datagen;
+
+import com.google.common.hash.HashCode;
+import net.fabricmc.fabric.api.datagen.v1.FabricDataOutput;
+import net.minecraft.data.DataProvider;
+import net.minecraft.data.DataWriter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static io.github.piscescup.mc.fabric.References.MC_VERSION;
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+import static io.github.piscescup.mc.fabric.References.MOD_VERSION;
+
+/**
+ * Skips a {@link DataProvider} whose inputs have not changed since the previous run.
+ *
+ * <p>After each run, the input hash of the provider (see {@link DataGenOption#computeInputHash()})
+ * and the files it wrote are recorded in a manifest under the {@code .cache} directory of the
+ * output, which the data generator never prunes. On the next run, if the input hash, the library
+ * and game versions match and every recorded file still exists, the provider is not run at all:
+ * the recorded files are replayed to the {@link DataWriter} with their recorded hashes, so that
+ * the data cache keeps them without rewriting them.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+final class IncrementalDataProvider implements DataProvider {
+    private static final String MANIFEST_DIRECTORY = ".cache/pc-dev-lib-incremental";
+
+    private static final String INPUT_PREFIX = "input ";
+
+    private final DataProvider delegate;
+    private final Supplier<Optional<HashCode>> inputHash;
+    private final Path root;
+    private final Path manifest;
+
+    IncrementalDataProvider(FabricDataOutput output, DataProvider delegate, Supplier<Optional<HashCode>> inputHash) {
+        this.delegate = delegate;
+        this.inputHash = inputHash;
+        this.root = output.getPath();
+        this.manifest = this.root.resolve(MANIFEST_DIRECTORY)
+            .resolve(delegate.getName().replaceAll("[^A-Za-z0-9._-]", "_") + ".txt");
+    }
+
+    @Override
+    public CompletableFuture<?> run(DataWriter writer) {
+        Optional<HashCode> hash = this.inputHash.get();
+        if (hash.isEmpty()) {
+            return this.delegate.run(writer);
+        }
+
+        String input = INPUT_PREFIX + hash.get() + " " + MOD_VERSION + " " + MC_VERSION;
+        Map<Path, HashCode> previousOutputs = this.readManifest(input);
+        if (previousOutputs != null) {
+            try {
+                for (Map.Entry<Path, HashCode> output : previousOutputs.entrySet()) {
+                    writer.write(output.getKey(), Files.readAllBytes(output.getKey()), output.getValue());
+                }
+                MOD_LOGGER.info("Skipped data provider {}: inputs unchanged", this.delegate.getName());
+                return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+                MOD_LOGGER.warn(
+                    "WARNING! Failed to reuse the previous output of {}, running it: {}",
+                    this.delegate.getName(), e.getMessage()
+                );
+            }
+        }
+
+        Map<Path, HashCode> outputs = new ConcurrentHashMap<>();
+        DataWriter recording = (path, data, hashCode) -> {
+            writer.write(path, data, hashCode);
+            outputs.put(path, hashCode);
+        };
+        return this.delegate.run(recording).thenRun(() -> this.writeManifest(input, outputs));
+    }
+
+    @Override
+    public String getName() {
+        return this.delegate.getName();
+    }
+
+    /**
+     * Returns the outputs recorded by the previous run if they can be reused, or null.
+     */
+    private Map<Path, HashCode> readManifest(String input) {
+        if (!Files.isRegularFile(this.manifest)) return null;
+
+        try {
+            List<String> lines = Files.readAllLines(this.manifest, StandardCharsets.UTF_8);
+            if (lines.isEmpty() || !lines.getFirst().equals(input)) return null;
+
+            Map<Path, HashCode> outputs = new LinkedHashMap<>();
+            for (String line : lines.subList(1, lines.size())) {
+                int separator = line.indexOf(' ');
+                Path path = this.root.resolve(line.substring(separator + 1));
+                if (!Files.isRegularFile(path)) return null;
+                outputs.put(path, HashCode.fromString(line.substring(0, separator)));
+            }
+            return outputs;
+        } catch (IOException | RuntimeException e) {
+            MOD_LOGGER.warn(
+                "WARNING! Ignoring unreadable incremental manifest {}: {}", this.manifest, e.getMessage()
+            );
+            return null;
+        }
+    }
+
+    private void writeManifest(String input, Map<Path, HashCode> outputs) {
+        List<String> lines = new ArrayList<>(outputs.size() + 1);
+        lines.add(input);
+        outputs.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(output -> output.getValue() + " " + this.root.relativize(output.getKey()).toString().replace('\\', '/'))
+            .forEach(lines::add);
+
+        try {
+            Files.createDirectories(this.manifest.getParent());
+            Files.write(this.manifest, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            MOD_LOGGER.warn(
+                "WARNING! Failed to write incremental manifest {}: {}", this.manifest, e.getMessage()
+            );
+        }
+    }
+}
@@ -5,13 +5,31 @@ import net.fabricmc.fabric.api.datagen.v1.FabricDataOutput;
 import net.fabricmc.fabric.api.datagen.v1.provider.FabricLanguageProvider;
 import net.minecraft.registry.RegistryWrapper;
 
-import java.util.Collection;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+
 /**
  * <h2>Description</h2>
+ * Writes the translations collected by {@link Translation} for one language.
+ *
+ * <p>With {@code fillFromFallbacks}, keys missing in the language are filled from the nearest
+ * language of its {@link MCLanguageOption#getFallbackChain() fallback chain} that translates
+ * them, e.g. a {@code zh_hk} key missing in {@code zh_hk} and {@code zh_tw} is taken from
+ * {@code zh_cn}. {@link MCLanguageOption#EN_US en_us} is never copied, as the game falls back
+ * to it at runtime anyway.
  *
  * <h2>Usages</h2>
+ * <pre>{@code
+ * DataGenerationProviderConfig.create()
+ *     .addLanguageFactory(MCLanguageOption.ZH_CN)
+ *     .addLanguageFactory(MCLanguageOption.ZH_HK, true)
+ *     .applyTo(pack);
+ * }</pre>
  *
  * @author REN YuanTong
  * @Date 2025-12-18
@@ -20,15 +38,27 @@ import java.util.concurrent.CompletableFuture;
 public class LanguageDataGenProvider
     extends FabricLanguageProvider
 {
-    private final Collection<Translation.TranslationEntry> translations;
+    private final MCLanguageOption lang;
+
+    private final boolean fillFromFallbacks;
 
     public LanguageDataGenProvider(
         FabricDataOutput dataOutput,
         MCLanguageOption lang,
         CompletableFuture<RegistryWrapper.WrapperLookup> registryLookup
+    ) {
+        this(dataOutput, lang, registryLookup, false);
+    }
+
+    public LanguageDataGenProvider(
+        FabricDataOutput dataOutput,
+        MCLanguageOption lang,
+        CompletableFuture<RegistryWrapper.WrapperLookup> registryLookup,
+        boolean fillFromFallbacks
     ) {
         super(dataOutput, lang.getCode(), registryLookup);
-        this.translations = Translation.getLangTranslations(lang);
+        this.lang = lang;
+        this.fillFromFallbacks = fillFromFallbacks;
     }
 
     @Override
@@ -36,8 +66,54 @@ public class LanguageDataGenProvider
         RegistryWrapper.WrapperLookup wrapperLookup,
         TranslationBuilder translationBuilder
     ) {
-        this.translations.forEach(
-            entry -> entry.offerToTranslationBuilder(translationBuilder)
-        );
+        writeTranslations(this.lang, this.fillFromFallbacks, translationBuilder);
+    }
+
+    /**
+     * Writes the translations of a language to a builder.
+     * <p>
+     * When filling from the fallback chain, every source goes through one set of written keys, the
+     * language files of the language first: the first source translating a key wins, rather than
+     * the builder rejecting the key as a duplicate.
+     *
+     * @param lang               the language
+     * @param fillFromFallbacks  whether missing keys are filled from the fallback chain
+     * @param translationBuilder the builder
+     */
+    static void writeTranslations(
+        MCLanguageOption lang,
+        boolean fillFromFallbacks,
+        TranslationBuilder translationBuilder
+    ) {
+        Set<String> written = new HashSet<>();
+        TranslationBuilder target = fillFromFallbacks
+            ? (key, value) -> {
+                if (written.add(key)) translationBuilder.add(key, value);
+            }
+            : translationBuilder;
+
+        for (Path languageFile : Translation.getLanguageFiles(lang)) {
+            try {
+                target.add(languageFile);
+            } catch (IOException e) {
+                MOD_LOGGER.warn(
+                    "WARNING! Failed to add translation for Path ({}): {}",
+                    languageFile.toString(), e.getMessage()
+                );
+            }
+        }
+
+        // Keys were resolved when the translations were put.
+        if (!fillFromFallbacks) {
+            Translation.forEachTranslation(lang, translationBuilder::add);
+            return;
+        }
+
+        // Walk the chain nearest first, so the first language translating a key wins.
+        for (MCLanguageOption source : lang.getFallbackChain()) {
+            if (source == MCLanguageOption.EN_US && source != lang) break;
+
+            Translation.forEachTranslation(source, target::add);
+        }
     }
 }
@@ -1,30 +1,13 @@
 package io.github.piscescup.mc.fabric.datagen.lang;
 
+import io.github.piscescup.mc.fabric.utils.RuntimeMode;
 import io.github.piscescup.mc.fabric.utils.constant.MCLanguageOption;
 import net.fabricmc.fabric.api.datagen.v1.provider.FabricLanguageProvider;
-import net.minecraft.block.Block;
-import net.minecraft.datafixer.fix.VillagerCanPickUpLootFix;
-import net.minecraft.entity.EntityType;
-import net.minecraft.entity.attribute.EntityAttribute;
-import net.minecraft.entity.effect.StatusEffect;
-import net.minecraft.item.Item;
-import net.minecraft.item.ItemGroup;
-import net.minecraft.registry.RegistryKey;
-import net.minecraft.registry.RegistryKeys;
-import net.minecraft.registry.entry.RegistryEntry;
-import net.minecraft.registry.tag.TagKey;
-import net.minecraft.sound.SoundEvent;
-import net.minecraft.stat.StatType;
-import net.minecraft.text.TextContent;
-import net.minecraft.text.TranslatableTextContent;
-import net.minecraft.util.Identifier;
-import net.minecraft.village.VillagerProfession;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
 
 import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
 import static io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
@@ -32,16 +15,98 @@ import static io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
 /**
  * A Translation class is a container of all {@link TranslationEntry} for different languages.
  *
+ * <p>Translations are only consumed by the {@link LanguageDataGenProvider}, so what is kept
+ * depends on the {@link StoreMode}: while the data generators run, every entry is kept, and
+ * otherwise every entry is discarded, so that a running game or server does not hold them
+ * forever. The mode can be overridden with the system property {@value #STORE_MODE_PROPERTY}
+ * or {@link #setStoreMode(StoreMode)}.
+ *
+ * <p>The translation key of a thing is resolved once, when it is put, by the
+ * {@link TranslationKeyResolver}; only the key and the translation are then stored, and
+ * the language provider writes them out as they are.
+ *
  * @author REN YuanTong
  * @since 1.0.0
  */
 public class Translation {
-    private static final Map<MCLanguageOption, Queue<TranslationEntry>> TRANSLATION_MAP = new ConcurrentHashMap<>();
+    /**
+     * The system property overriding the default {@link StoreMode}, e.g. {@code -Dpc-dev-lib.translationStore=full}.
+     */
+    public static final String STORE_MODE_PROPERTY = "pc-dev-lib.translationStore";
+
+    /**
+     * What the {@link Translation} container keeps.
+     */
+    public enum StoreMode {
+        /**
+         * Every entry is discarded. The default outside data generation.
+         */
+        DISCARD,
+        /**
+         * Every entry is kept. The default during data generation.
+         */
+        FULL;
+
+        /**
+         * Returns the mode set by {@value Translation#STORE_MODE_PROPERTY}, or else the mode matching the
+         * {@link RuntimeMode current runtime mode}.
+         *
+         * @return the default store mode
+         */
+        public static StoreMode defaultMode() {
+            String property = System.getProperty(STORE_MODE_PROPERTY);
+            if (property != null) {
+                try {
+                    return valueOf(property.toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    MOD_LOGGER.warn(
+                        "Unknown translation store mode '{}', expected one of {}", property, Arrays.toString(values())
+                    );
+                }
+            }
+            return RuntimeMode.isDataGeneration() ? FULL : DISCARD;
+        }
+
+        private TranslationStore createStore() {
+            return switch (this) {
+                case DISCARD -> new TranslationStore.Discarding();
+                case FULL -> new TranslationStore.Full();
+            };
+        }
+    }
+
+    private static volatile StoreMode storeMode = StoreMode.defaultMode();
+
+    private static volatile TranslationStore store = storeMode.createStore();
 
     private Translation() {}
 
+    /**
+     * Returns the current store mode.
+     *
+     * @return the current store mode
+     */
+    public static StoreMode getStoreMode() {
+        return storeMode;
+    }
+
+    /**
+     * Switches to the given store mode. Entries stored so far are dropped.
+     *
+     * @param mode the new store mode
+     * @throws NullPointerException if {@code mode} is null
+     */
+    public static synchronized void setStoreMode(StoreMode mode) {
+        NullCheck.requireNonNull(mode);
+        store = mode.createStore();
+        storeMode = mode;
+    }
+
     /**
      * Put a translation entry:{ {@code thing} -> {@code translation}} in the given language into the {@code Translation}.
+     * <p>
+     * A {@link Path} is treated as an existing language file, whose entries are all added.
+     * Things whose translation key cannot be resolved by the {@link TranslationKeyResolver} are skipped.
      * @param thing The thing to be translated.
      * @param lang The language of the translation.
      * @param translation The translation string.
@@ -52,9 +117,7 @@ public class Translation {
         NullCheck.requireNonNull(thing, "Thing to be translated must not be null");
         NullCheck.requireNonNull(translation, "Translation must not be null");
 
-        TRANSLATION_MAP
-            .computeIfAbsent(lang, mcLang -> new ConcurrentLinkedQueue<>())
-            .add(new TranslationEntry(thing, translation));
+        put(store, lang, thing, translation);
     }
 
     /**
@@ -68,9 +131,7 @@ public class Translation {
         NullCheck.requireNonNull(thing);
         NullCheck.requireNonNull(entry);
 
-        TRANSLATION_MAP
-            .computeIfAbsent(thing, mcLang -> new ConcurrentLinkedQueue<>())
-            .add(entry);
+        put(store, thing, entry.thing(), entry.translation());
     }
 
     /**
@@ -83,9 +144,8 @@ public class Translation {
     public static void putTranslations(MCLanguageOption lang, List<TranslationEntry> entries) {
         NullCheck.requireAllNonNull(entries);
 
-        TRANSLATION_MAP
-            .computeIfAbsent(lang, mcLang -> new ConcurrentLinkedQueue<>())
-            .addAll(entries);
+        TranslationStore current = store;
+        entries.forEach(entry -> put(current, lang, entry.thing(), entry.translation()));
     }
 
     /**
@@ -99,20 +159,62 @@ public class Translation {
         NullCheck.requireNonNull(lang);
         NullCheck.requireAllNonNull(entries);
 
-        TRANSLATION_MAP
-            .computeIfAbsent(lang, mcLang -> new ConcurrentLinkedQueue<>())
-            .addAll(Arrays.asList(entries));
+        putTranslations(lang, Arrays.asList(entries));
     }
 
     /**
      * Get all translation entries for the given language.
+     * <p>
+     * The {@link TranslationEntry#thing() thing} of every returned entry is its resolved translation key.
      * @param lang The language.
      * @return All translation entries for the given language.
      */
     public static List<TranslationEntry> getLangTranslations(MCLanguageOption lang) {
         NullCheck.requireNonNull(lang);
-        Queue<TranslationEntry> queue = TRANSLATION_MAP.get(lang);
-        return queue == null ? Collections.emptyList() : List.copyOf(queue);
+        List<TranslationEntry> entries = new ArrayList<>();
+        store.forEach(lang, (key, value) -> entries.add(new TranslationEntry(key, value)));
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Performs the given action for every translation key and value of the given language, in insertion order.
+     * @param lang The language.
+     * @param action The action, accepting a translation key and its value.
+     * @throws NullPointerException if {@code lang} or {@code action} is null.
+     */
+    public static void forEachTranslation(MCLanguageOption lang, BiConsumer<String, String> action) {
+        NullCheck.requireNonNull(lang);
+        NullCheck.requireNonNull(action);
+        store.forEach(lang, action);
+    }
+
+    /**
+     * Get all existing language files added for the given language.
+     * @param lang The language.
+     * @return The language files, in insertion order.
+     */
+    public static List<Path> getLanguageFiles(MCLanguageOption lang) {
+        NullCheck.requireNonNull(lang);
+        return store.getLanguageFiles(lang);
+    }
+
+    private static void put(TranslationStore store, MCLanguageOption lang, Object thing, String translation) {
+        if (!store.isRetaining()) return;
+
+        if (thing instanceof Path languageFile) {
+            store.addLanguageFile(lang, languageFile);
+            return;
+        }
+
+        String key = TranslationKeyResolver.resolve(thing);
+        if (key == null) {
+            MOD_LOGGER.warn(
+                "WARNING! No translation key can be resolved for {} ({}), translation skipped: {}",
+                thing, thing.getClass().getName(), translation
+            );
+            return;
+        }
+        store.add(lang, key, translation);
     }
 
     /**
@@ -128,39 +230,7 @@ public class Translation {
          * @see FabricLanguageProvider.TranslationBuilder
          */
         public void offerToTranslationBuilder(FabricLanguageProvider.TranslationBuilder builder) {
-            if (thing instanceof Item item) {
-                builder.add(item, translation);
-            } else if (thing instanceof String key) {
-                builder.add(key, translation);
-            } else if (thing instanceof Block block) {
-                builder.add(block, translation);
-            } else if (thing instanceof ItemGroup itemGroup) {
-                TextContent content = itemGroup.getDisplayName().getContent();
-
-                if ( content instanceof TranslatableTextContent translatableTextContent) {
-                    builder.add(translatableTextContent.getKey(), translation);
-                } else {
-                    throw new UnsupportedOperationException(
-                        "Cannot add language entry for ItemGroup (%s) as the display name is not translatable."
-                            .formatted(itemGroup.getDisplayName().getString())
-                    );
-                }
-            } else if (thing instanceof EntityType<?> entityType) {
-                builder.add(entityType, translation);
-            } else if (thing instanceof EntityAttribute entityAttribute) {
-                RegistryEntry<EntityAttribute> registryEntry = RegistryEntry.of(entityAttribute);
-                builder.add(registryEntry, translation);
-            } else if (thing instanceof StatType<?> statType) {
-                builder.add(statType, translation);
-            } else if (thing instanceof StatusEffect effect) {
-                builder.add(effect, translation);
-            } else if (thing instanceof Identifier id) {
-                builder.add(id, translation);
-            } else if (thing instanceof TagKey<?> tagKey) {
-                builder.add(tagKey, translation);
-            } else if (thing instanceof SoundEvent sound) {
-                builder.add(sound, translation);
-            } else if (thing instanceof Path path) {
+            if (thing instanceof Path path) {
                 try {
                     builder.add(path);
                 } catch (IOException e) {
@@ -169,8 +239,12 @@ public class Translation {
                         path.toString(), e.getMessage()
                     );
                 }
-            } else if (thing instanceof VillagerProfession profession) {
-                builder.add(profession.id().getString(), translation);
+                return;
+            }
+
+            String key = TranslationKeyResolver.resolve(thing);
+            if (key != null) {
+                builder.add(key, translation);
             }
         }
 
@@ -0,0 +1,177 @@
+package io.github.piscescup.mc.fabric.datagen.lang;
+
+import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
+import net.fabricmc.fabric.api.datagen.v1.provider.FabricLanguageProvider;
+import net.minecraft.block.Block;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.attribute.EntityAttribute;
+import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemGroup;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.sound.SoundEvent;
+import net.minecraft.stat.StatType;
+import net.minecraft.text.Text;
+import net.minecraft.text.TranslatableTextContent;
+import net.minecraft.util.Identifier;
+import net.minecraft.village.VillagerProfession;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+
+/**
+ * Resolves the translation key of the things passed to {@link Translation#putTranslation(Object, io.github.piscescup.mc.fabric.utils.constant.MCLanguageOption, String)}.
+ *
+ * <p>Keys are resolved by a handler registered for the class of the thing, or else for its
+ * nearest superclass, or else for one of its interfaces. The handler found for a class is cached
+ * in a {@link ClassValue}, so resolving a key costs a single lookup once a class has been seen.
+ *
+ * <p>Handlers for items, blocks, item groups, entity types, entity attributes, stat types,
+ * status effects, identifiers, tag keys, sound events, villager professions and plain string
+ * keys are built in. Mods may add handlers for their own types with {@link #register(Class, Function)}:
+ * <pre>{@code
+ * TranslationKeyResolver.register(MyEnchantmentCategory.class, category -> "category." + MOD_ID + "." + category.name());
+ * }</pre>
+ *
+ * <p>The built-in handlers delegate to {@link FabricLanguageProvider.TranslationBuilder}, so that
+ * the resolved keys are exactly the ones the builder would emit.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+public final class TranslationKeyResolver {
+    private static final Function<Object, String> UNSUPPORTED = thing -> null;
+
+    private static final Map<Class<?>, Function<Object, String>> HANDLERS = new ConcurrentHashMap<>();
+
+    private static volatile ClassValue<Function<Object, String>> handlerCache = newHandlerCache();
+
+    static {
+        register(String.class, Function.identity());
+        register(Item.class, item -> builderKey(builder -> builder.add(item, "")));
+        register(Block.class, block -> builderKey(builder -> builder.add(block, "")));
+        register(ItemGroup.class, TranslationKeyResolver::itemGroupKey);
+        register(EntityType.class, entityType -> builderKey(builder -> builder.add((EntityType<?>) entityType, "")));
+        register(EntityAttribute.class, attribute -> builderKey(builder -> builder.add(RegistryEntry.of(attribute), "")));
+        register(StatType.class, statType -> builderKey(builder -> builder.add((StatType<?>) statType, "")));
+        register(StatusEffect.class, effect -> builderKey(builder -> builder.add(effect, "")));
+        register(Identifier.class, id -> builderKey(builder -> builder.add(id, "")));
+        register(TagKey.class, tagKey -> builderKey(builder -> builder.add((TagKey<?>) tagKey, "")));
+        register(SoundEvent.class, sound -> builderKey(builder -> builder.add(sound, "")));
+        register(VillagerProfession.class, profession -> textKey(profession.id()));
+    }
+
+    private TranslationKeyResolver() {
+        MOD_LOGGER.error(
+            "Attempted to instantiate {}", TranslationKeyResolver.class.getCanonicalName()
+        );
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Registers the handler resolving the translation key of {@code type} and its subtypes,
+     * replacing any handler previously registered for {@code type}.
+     *
+     * @param type    the type handled
+     * @param handler the handler returning the translation key of a thing
+     * @param <T>     the type handled
+     * @throws NullPointerException if {@code type} or {@code handler} is null
+     */
+    public static synchronized <T> void register(@NotNull Class<T> type, @NotNull Function<? super T, String> handler) {
+        NullCheck.requireNonNull(type);
+        NullCheck.requireNonNull(handler);
+
+        HANDLERS.put(type, thing -> handler.apply(type.cast(thing)));
+        // Subtypes of type may have cached the handler of one of its supertypes.
+        handlerCache = newHandlerCache();
+    }
+
+    /**
+     * Returns whether a handler applies to the given type.
+     *
+     * @param type the type
+     * @return {@code true} if things of this type can be resolved
+     */
+    public static boolean isSupported(@NotNull Class<?> type) {
+        NullCheck.requireNonNull(type);
+        return handlerCache.get(type) != UNSUPPORTED;
+    }
+
+    /**
+     * Resolves the translation key of the given thing.
+     *
+     * @param thing the thing to be translated
+     * @return the translation key, or {@code null} if no handler applies to the thing
+     * @throws NullPointerException if {@code thing} is null
+     */
+    public static @Nullable String resolve(@NotNull Object thing) {
+        NullCheck.requireNonNull(thing);
+        return handlerCache.get(thing.getClass()).apply(thing);
+    }
+
+    private static ClassValue<Function<Object, String>> newHandlerCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Function<Object, String> computeValue(@NotNull Class<?> type) {
+                return findHandler(type);
+            }
+        };
+    }
+
+    private static Function<Object, String> findHandler(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            Function<Object, String> handler = HANDLERS.get(current);
+            if (handler != null) return handler;
+        }
+
+        // Breadth-first over the interfaces, so the closest interface wins.
+        Deque<Class<?>> interfaces = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            interfaces.addAll(List.of(current.getInterfaces()));
+        }
+        while (!interfaces.isEmpty()) {
+            Class<?> candidate = interfaces.poll();
+            if (!visited.add(candidate)) continue;
+
+            Function<Object, String> handler = HANDLERS.get(candidate);
+            if (handler != null) return handler;
+            interfaces.addAll(List.of(candidate.getInterfaces()));
+        }
+        return UNSUPPORTED;
+    }
+
+    private static String builderKey(Consumer<FabricLanguageProvider.TranslationBuilder> add) {
+        String[] key = new String[1];
+        add.accept((translationKey, value) -> key[0] = translationKey);
+        return key[0];
+    }
+
+    private static String itemGroupKey(ItemGroup itemGroup) {
+        if (itemGroup.getDisplayName().getContent() instanceof TranslatableTextContent translatable) {
+            return translatable.getKey();
+        }
+        throw new UnsupportedOperationException(
+            "Cannot add language entry for ItemGroup (%s) as the display name is not translatable."
+                .formatted(itemGroup.getDisplayName().getString())
+        );
+    }
+
+    private static String textKey(Text text) {
+        return text.getContent() instanceof TranslatableTextContent translatable
+            ? translatable.getKey()
+            : text.getString();
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.piscescup.mc.fabric.datagen.lang;
+
+import io.github.piscescup.mc.fabric.utils.constant.MCLanguageOption;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+
+/**
+ * Backing storage of {@link Translation}, selected by {@link Translation.StoreMode}.
+ *
+ * <p>Translations are stored as resolved key/value string pairs, see {@link TranslationKeyResolver}.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+interface TranslationStore {
+
+    /**
+     * Returns whether this store keeps anything, i.e. whether translation keys need to be resolved at all.
+     */
+    boolean isRetaining();
+
+    void add(MCLanguageOption lang, String key, String value);
+
+    void addLanguageFile(MCLanguageOption lang, Path languageFile);
+
+    void forEach(MCLanguageOption lang, BiConsumer<String, String> action);
+
+    List<Path> getLanguageFiles(MCLanguageOption lang);
+
+    /**
+     * Keeps every pair and language file, per language, in insertion order.
+     */
+    final class Full implements TranslationStore {
+        /**
+         * Keys and values, interleaved, so that a pair costs no more than its two strings.
+         * Each list is guarded by itself.
+         */
+        private final Map<MCLanguageOption, List<String>> translations = new ConcurrentHashMap<>();
+
+        private final Map<MCLanguageOption, Queue<Path>> languageFiles = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean isRetaining() {
+            return true;
+        }
+
+        @Override
+        public void add(MCLanguageOption lang, String key, String value) {
+            List<String> pairs = this.translations.computeIfAbsent(lang, mcLang -> new ArrayList<>());
+            synchronized (pairs) {
+                pairs.add(key);
+                pairs.add(value);
+            }
+        }
+
+        @Override
+        public void addLanguageFile(MCLanguageOption lang, Path languageFile) {
+            this.languageFiles.computeIfAbsent(lang, mcLang -> new ConcurrentLinkedQueue<>()).add(languageFile);
+        }
+
+        @Override
+        public void forEach(MCLanguageOption lang, BiConsumer<String, String> action) {
+            List<String> pairs = this.translations.get(lang);
+            if (pairs == null) return;
+
+            synchronized (pairs) {
+                for (int i = 0; i < pairs.size(); i += 2) {
+                    action.accept(pairs.get(i), pairs.get(i + 1));
+                }
+            }
+        }
+
+        @Override
+        public List<Path> getLanguageFiles(MCLanguageOption lang) {
+            Queue<Path> queue = this.languageFiles.get(lang);
+            return queue == null ? Collections.emptyList() : List.copyOf(queue);
+        }
+    }
+
+    /**
+     * Drops everything; translations are only read by the data generators.
+     */
+    final class Discarding implements TranslationStore {
+        @Override
+        public boolean isRetaining() {
+            return false;
+        }
+
+        @Override
+        public void add(MCLanguageOption lang, String key, String value) {}
+
+        @Override
+        public void addLanguageFile(MCLanguageOption lang, Path languageFile) {}
+
+        @Override
+        public void forEach(MCLanguageOption lang, BiConsumer<String, String> action) {}
+
+        @Override
+        public List<Path> getLanguageFiles(MCLanguageOption lang) {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.piscescup.mc.fabric.datagen.tag;
+
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
+import com.google.gson.stream.JsonWriter;
+import net.fabricmc.fabric.api.datagen.v1.FabricDataOutput;
+import net.minecraft.data.DataOutput;
+import net.minecraft.data.DataProvider;
+import net.minecraft.data.DataWriter;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Generates the tags registered through {@link io.github.piscescup.mc.fabric.register.tag.TagKeyRegister TagKeyRegister}
+ * for one registry, writing the JSON of each tag as a stream of tokens.
+ *
+ * <p>{@link TagDataGenProvider} goes through the vanilla tag builders, which keep a tag entry per
+ * member and then a JSON tree per tag before serialization. This provider resolves the same
+ * contents (see {@link TagContentsResolver}) and streams each tag straight into its serialized
+ * form, hashing the bytes while they are written. Tags are written one at a time, so apart from
+ * the resolved registry keys, only the bytes of the tag being written are held in memory.
+ *
+ * <p>The output follows the format of {@link TagDataGenProvider}: every entry is optional, and the
+ * JSON is indented and hashed like {@link DataProvider#writeToPath}. It is selected through
+ * {@link TagKeyGenerationOption#streaming()}.
+ *
+ * @param <T> the element type of the registry
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+public class StreamingTagDataProvider<T> implements DataProvider {
+    private final RegistryKey<? extends Registry<T>> registryRef;
+    private final DataOutput.PathResolver pathResolver;
+    private final CompletableFuture<RegistryWrapper.WrapperLookup> registriesFuture;
+    private final TagContentsResolver<T> resolver;
+
+    public StreamingTagDataProvider(
+        FabricDataOutput output,
+        TagKeyGenerationOption<T> option,
+        CompletableFuture<RegistryWrapper.WrapperLookup> registriesFuture
+    ) {
+        this.registryRef = option.getRegistryKey();
+        this.pathResolver = output.getTagResolver(option.getRegistryKey());
+        this.registriesFuture = registriesFuture;
+        this.resolver = new TagContentsResolver<>(option, output.getModId());
+    }
+
+    @Override
+    public CompletableFuture<?> run(DataWriter writer) {
+        return this.registriesFuture.thenAcceptAsync(
+            wrapperLookup -> this.resolver.resolve(wrapperLookup)
+                .forEach((tag, contents) -> this.write(writer, tag, contents)),
+            Util.getMainWorkerExecutor()
+        );
+    }
+
+    private void write(DataWriter writer, TagKey<T> tag, TagGraph.Contents<T> contents) {
+        try {
+            write(writer, this.pathResolver.resolveJson(tag.id()), contents);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write tag #" + tag.id(), e);
+        }
+    }
+
+    /**
+     * Streams the JSON of a tag to the given path, in the exact bytes {@link DataProvider#writeToPath}
+     * writes for the equivalent {@link net.minecraft.registry.tag.TagFile TagFile}: sorted keys,
+     * {@code replace} omitted, two-space indentation and no trailing newline.
+     */
+    static <T> void write(DataWriter writer, Path path, TagGraph.Contents<T> contents) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        HashingOutputStream hashing = new HashingOutputStream(Hashing.sha1(), bytes);
+
+        try (JsonWriter json = new JsonWriter(new OutputStreamWriter(hashing, StandardCharsets.UTF_8))) {
+            json.setSerializeNulls(false);
+            json.setIndent("  ");
+
+            json.beginObject().name("values").beginArray();
+            for (TagKey<T> included : contents.tags()) {
+                writeOptional(json, "#" + included.id());
+            }
+            for (RegistryKey<T> member : contents.members()) {
+                writeOptional(json, member.getValue().toString());
+            }
+            json.endArray().endObject();
+        }
+
+        writer.write(path, bytes.toByteArray(), hashing.hash());
+    }
+
+    private static void writeOptional(JsonWriter json, String id) throws IOException {
+        json.beginObject()
+            .name("id").value(id)
+            .name("required").value(false)
+            .endObject();
+    }
+
+    @Override
+    public @NotNull String getName() {
+        Identifier registry = this.registryRef.getValue();
+        return "Streaming Tags for " + registry;
+    }
+}
@@ -0,0 +1,200 @@
+package io.github.piscescup.mc.fabric.datagen.tag;
+
+import io.github.piscescup.mc.fabric.utils.CheckUtils;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+
+/**
+ * Resolves the contents of the tags registered for one registry, as written by the tag providers.
+ *
+ * <p>Elements added directly or produced by mappings are converted back to their registry keys
+ * through an identity snapshot of the registry, taken once per resolver. Elements that are
+ * not registered are collected, and reported all at once after every tag has been resolved.
+ *
+ * <p>The predicates of every tag (see {@link io.github.piscescup.mc.fabric.register.tag.TagKeyPreRegistrable#addMatching
+ * addMatching}) are evaluated in a single scan of the registry, optionally split into parallel
+ * chunks (see {@link TagKeyGenerationOption#parallelScan()}).
+ *
+ * <p>The collected tags form a {@link TagGraph}: members and included tags are deduped, inclusion
+ * cycles fail the resolution with the path of the cycle, and the tags are flattened when the option
+ * asks for it (see {@link TagKeyGenerationOption#flattened()}).
+ *
+ * <p>This class is an implementation detail of {@link TagDataGenProvider} and {@link StreamingTagDataProvider}.
+ *
+ * @param <T> the element type of the registry
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+final class TagContentsResolver<T> {
+    private final RegistryKey<? extends Registry<T>> registryRef;
+    private final TagKeyRegisterList<T> tagKeyRegisters;
+    private final boolean flatten;
+    private final boolean parallelScan;
+    private final String modId;
+
+    /**
+     * Element to registry key snapshot of the registry, taken on first use.
+     */
+    private Map<T, RegistryKey<T>> registryKeys;
+
+    /**
+     * An element that could not be resolved to a registry key.
+     *
+     * @param tag     the tag the element was added to
+     * @param element the element
+     */
+    private record Unresolved(TagKey<?> tag, Object element) {}
+
+    TagContentsResolver(TagKeyGenerationOption<T> option, String modId) {
+        this.registryRef = option.getRegistryKey();
+        this.tagKeyRegisters = option.getTagKeyRegisters();
+        this.flatten = option.isFlattened();
+        this.parallelScan = option.isParallelScan();
+        this.modId = modId;
+    }
+
+    /**
+     * Resolves the contents of every registered tag.
+     *
+     * @param wrapperLookup the registries of the data generation
+     * @return the contents of every tag, in tag order
+     * @throws IllegalStateException if an element is not registered, or the tags contain a cycle
+     */
+    Map<TagKey<T>, TagGraph.Contents<T>> resolve(RegistryWrapper.WrapperLookup wrapperLookup) {
+        Map<T, RegistryKey<T>> keys = this.snapshotRegistryKeys(wrapperLookup);
+        List<Unresolved> unresolved = new ArrayList<>();
+        TagGraph<T> graph = new TagGraph<>();
+        Map<TagKey<T>, Integer> duplicates = new HashMap<>();
+        TagPredicateEvaluator<T> evaluator = new TagPredicateEvaluator<>();
+
+        tagKeyRegisters.forEach(
+            register -> {
+                TagKey<T> tag = register.get();
+                Set<T> content = register.getContent();
+                Set<TagKey<T>> tags = register.getTags();
+                Set<RegistryKey<T>> registryKeys = register.getKeys();
+                duplicates.merge(tag, register.getDuplicateCount(), Integer::sum);
+
+                List<Function<RegistryWrapper.WrapperLookup, Stream<T>>> functions = register.getMappings();
+
+                Stream<T> stream = functions.stream()
+                    .filter(CheckUtils.NullCheck::nonNull)
+                    .flatMap(func -> func.apply(wrapperLookup));
+
+                graph.addIncludes(tag, tags)
+                    .addMembers(tag, registryKeys);
+                register.getPredicates().forEach(predicate -> evaluator.add(tag, predicate));
+
+                Stream.concat(stream, content.stream())
+                    .forEach(element -> {
+                        RegistryKey<T> key = keys.get(element);
+                        if (key == null) {
+                            unresolved.add(new Unresolved(tag, element));
+                        } else {
+                            graph.addMember(tag, key);
+                        }
+                    });
+            });
+
+        if (!evaluator.isEmpty()) {
+            List<RegistryEntry.Reference<T>> entries = wrapperLookup.getOrThrow(this.registryRef)
+                .streamEntries()
+                .toList();
+            evaluator.evaluate(entries, this.parallelScan).forEach(graph::addMembers);
+        }
+
+        if (!unresolved.isEmpty()) {
+            String report = formatReport(unresolved);
+            MOD_LOGGER.error(report);
+            throw new IllegalStateException(report);
+        }
+
+        graph.getTags().forEach(tag -> {
+            int count = duplicates.getOrDefault(tag, 0) + graph.getDuplicateCount(tag);
+            if (count > 0) {
+                MOD_LOGGER.info("Tag #{}: dropped {} duplicate entries", tag.id(), count);
+            }
+        });
+
+        return this.flatten
+            ? graph.flatten(tag -> tag.id().getNamespace().equals(this.modId))
+            : checkedContents(graph);
+    }
+
+    /**
+     * Returns the registry key of the given element, using the snapshot of the static registry
+     * if no resolution has taken it yet.
+     *
+     * @param element the element
+     * @return the registry key of the element, or null if it is not registered
+     */
+    RegistryKey<T> reverseLookup(T element) {
+        if (this.registryKeys == null) {
+            this.registryKeys = snapshotStaticRegistry();
+        }
+        return this.registryKeys == null ? null : this.registryKeys.get(element);
+    }
+
+    private static <T> Map<TagKey<T>, TagGraph.Contents<T>> checkedContents(TagGraph<T> graph) {
+        graph.checkAcyclic();
+
+        Map<TagKey<T>, TagGraph.Contents<T>> contents = new LinkedHashMap<>();
+        graph.getTags().forEach(tag -> contents.put(tag, graph.getContents(tag)));
+        return contents;
+    }
+
+    /**
+     * Snapshots the registry, preferring the static registry, whose elements are the instances
+     * mods add, and falling back to the data generation lookup for dynamic registries.
+     */
+    private Map<T, RegistryKey<T>> snapshotRegistryKeys(RegistryWrapper.WrapperLookup wrapperLookup) {
+        if (this.registryKeys != null) return this.registryKeys;
+
+        Map<T, RegistryKey<T>> keys = snapshotStaticRegistry();
+        if (keys == null) {
+            keys = new IdentityHashMap<>();
+            Map<T, RegistryKey<T>> dynamicKeys = keys;
+            wrapperLookup.getOptional(this.registryRef).ifPresent(wrapper -> wrapper.streamEntries()
+                .filter(RegistryEntry.Reference::hasKeyAndValue)
+                .forEach(entry -> dynamicKeys.put(entry.value(), entry.registryKey()))
+            );
+        }
+        this.registryKeys = keys;
+        return keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<T, RegistryKey<T>> snapshotStaticRegistry() {
+        Registry<T> registry = (Registry<T>) Registries.REGISTRIES.get(this.registryRef.getValue());
+        if (registry == null) return null;
+
+        Map<T, RegistryKey<T>> keys = new IdentityHashMap<>(registry.size());
+        registry.getEntrySet().forEach(entry -> keys.put(entry.getValue(), entry.getKey()));
+        return keys;
+    }
+
+    private String formatReport(List<Unresolved> unresolved) {
+        StringBuilder builder = new StringBuilder()
+            .append(unresolved.size())
+            .append(" tag element(s) are not registered in ")
+            .append(this.registryRef.getValue())
+            .append(":\n");
+        unresolved.forEach(entry -> builder
+            .append("  #").append(entry.tag().id())
+            .append(": ").append(entry.element())
+            .append(" (").append(entry.element().getClass().getName()).append(")\n")
+        );
+        return builder.toString();
+    }
+}
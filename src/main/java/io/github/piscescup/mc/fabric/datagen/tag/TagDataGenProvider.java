@@ -1,32 +1,30 @@
 package io.github.piscescup.mc.fabric.datagen.tag;
 
-import io.github.piscescup.mc.fabric.utils.CheckUtils;
 import net.fabricmc.fabric.api.datagen.v1.FabricDataOutput;
 import net.fabricmc.fabric.api.datagen.v1.provider.FabricTagProvider;
-import net.fabricmc.fabric.impl.datagen.FabricTagBuilder;
 import net.minecraft.data.tag.ProvidedTagBuilder;
-import net.minecraft.data.tag.TagProvider;
-import net.minecraft.registry.Registries;
-import net.minecraft.registry.Registry;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryWrapper;
-import net.minecraft.registry.entry.RegistryEntry;
-import net.minecraft.registry.tag.TagKey;
 
-import java.awt.desktop.PrintFilesEvent;
-import java.util.List;
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
 /**
+ * Generates the tags registered through {@link io.github.piscescup.mc.fabric.register.tag.TagKeyRegister TagKeyRegister}
+ * for one registry.
+ *
+ * <p>The contents of the tags are resolved by a {@link TagContentsResolver}: elements are
+ * converted back to their registry keys through an identity snapshot of the registry, predicates
+ * are evaluated in a single registry scan, members are deduped, inclusion cycles are reported
+ * with their path, and the tags are flattened when the option asks for it
+ * (see {@link TagKeyGenerationOption#flattened()}).
+ *
+ * <p>For tags too large to be held as a tag builder tree, see {@link StreamingTagDataProvider}.
  *
  * @author REN YuanTong
  * @since 1.0.0
  */
 public class TagDataGenProvider<T> extends FabricTagProvider<T> {
-    private final TagKeyRegisterList<T> tagKeyRegisters;
+    private final TagContentsResolver<T> resolver;
 
     public TagDataGenProvider(
         FabricDataOutput output,
@@ -34,51 +32,34 @@ public class TagDataGenProvider<T> extends FabricTagProvider<T> {
         CompletableFuture<RegistryWrapper.WrapperLookup> registriesFuture
     ) {
         super(output, option.getRegistryKey(), registriesFuture);
-        this.tagKeyRegisters = option.getTagKeyRegisters();
+        this.resolver = new TagContentsResolver<>(option, output.getModId());
     }
 
     @Override
     protected void configure(RegistryWrapper.WrapperLookup wrapperLookup) {
-        tagKeyRegisters.forEach(
-            register -> {
-                TagKey<T> tag = register.get();
-                List<T> content = register.getContent();
-                List<TagKey<T>> tags = register.getTags();
-                List<RegistryKey<T>> keys = register.getKeys();
-
-                List<Function<RegistryWrapper.WrapperLookup, Stream<T>>> functions = register.getMappings();
-
-                Stream<T> stream = functions.stream()
-                    .filter(CheckUtils.NullCheck::nonNull)
-                    .flatMap(func -> func.apply(wrapperLookup));
-
-                ProvidedTagBuilder<RegistryKey<T>, T> builder = this.builder(tag);
-                tags.forEach(
-                    builder::addOptionalTag
-                );
-                keys.forEach(
-                    builder::addOptional
-                );
-
-                Stream.concat(stream, content.stream())
-                    .map(this::reverseLookup)
-                    .forEach(builder::addOptional);
-            });
+        this.resolver.resolve(wrapperLookup).forEach((tag, tagContents) -> {
+            ProvidedTagBuilder<RegistryKey<T>, T> builder = this.builder(tag);
+            tagContents.tags().forEach(
+                builder::addOptionalTag
+            );
+            tagContents.members().forEach(
+                builder::addOptional
+            );
+        });
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    /**
+     * Returns the registry key of the given element.
+     *
+     * @param element the registered element
+     * @return the registry key of the element
+     * @throws UnsupportedOperationException if the element is not registered in this provider's registry
+     */
     protected RegistryKey<T> reverseLookup(T element) {
-        Registry registry = Registries.REGISTRIES.get((RegistryKey) registryRef);
-
-        if (registry != null) {
-            Optional<RegistryEntry<T>> key = registry.getKey(element);
-
-            if (key.isPresent()) {
-                return (RegistryKey<T>) key.get();
-            }
+        RegistryKey<T> key = this.resolver.reverseLookup(element);
+        if (key == null) {
+            throw new UnsupportedOperationException("Adding objects is not supported by " + getClass());
         }
-
-        throw new UnsupportedOperationException("Adding objects is not supported by " + getClass());
+        return key;
     }
-
 }
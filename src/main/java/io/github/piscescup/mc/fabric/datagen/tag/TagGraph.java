@@ -0,0 +1,243 @@
+package io.github.piscescup.mc.fabric.datagen.tag;
+
+import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.tag.TagKey;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Inclusion graph of the tags generated for one registry.
+ *
+ * <p>Each tag known to the graph (a <i>local</i> tag) holds its direct members and the tags it
+ * includes. Included tags that are not known to the graph, such as vanilla tags, are leaves whose
+ * contents are only known to the game. The graph is able to:
+ * <ul>
+ *   <li>detect inclusion cycles, reporting the full path of the first one found,</li>
+ *   <li>dedupe the members and includes of every tag, keeping their first insertion order, and</li>
+ *   <li>flatten tags, inlining the members of the included local tags so that the game does not
+ *       have to expand the inclusion chain at every reload.</li>
+ * </ul>
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <T> the element type of the tags
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+public final class TagGraph<T> {
+
+    /**
+     * The contents of a tag.
+     *
+     * @param tags    the included tags, deduped
+     * @param members the member keys, deduped
+     * @param <T>     the element type of the tag
+     */
+    public record Contents<T>(Set<TagKey<T>> tags, Set<RegistryKey<T>> members) {}
+
+    private static final class Node<T> {
+        private final Set<TagKey<T>> tags = new LinkedHashSet<>();
+        private final Set<RegistryKey<T>> members = new LinkedHashSet<>();
+        private int duplicateCount;
+
+        private <E> void addAll(Set<E> set, Collection<E> elements) {
+            for (E element : elements) {
+                if (!set.add(element)) this.duplicateCount++;
+            }
+        }
+    }
+
+    private final Map<TagKey<T>, Node<T>> nodes = new LinkedHashMap<>();
+
+    /**
+     * Adds a tag to the graph, if it was not already present.
+     *
+     * @param tag the tag
+     * @return this graph
+     */
+    public TagGraph<T> addTag(TagKey<T> tag) {
+        this.node(tag);
+        return this;
+    }
+
+    /**
+     * Adds included tags to a tag, adding the tag to the graph if needed.
+     *
+     * @param tag      the including tag
+     * @param included the included tags
+     * @return this graph
+     */
+    public TagGraph<T> addIncludes(TagKey<T> tag, Collection<TagKey<T>> included) {
+        NullCheck.requireAllNonNull(included);
+        Node<T> node = this.node(tag);
+        node.addAll(node.tags, included);
+        return this;
+    }
+
+    /**
+     * Adds a member to a tag, adding the tag to the graph if needed.
+     *
+     * @param tag    the tag
+     * @param member the member key
+     * @return this graph
+     */
+    public TagGraph<T> addMember(TagKey<T> tag, RegistryKey<T> member) {
+        NullCheck.requireNonNull(member);
+        Node<T> node = this.node(tag);
+        if (!node.members.add(member)) node.duplicateCount++;
+        return this;
+    }
+
+    /**
+     * Adds members to a tag, adding the tag to the graph if needed.
+     *
+     * @param tag     the tag
+     * @param members the member keys
+     * @return this graph
+     */
+    public TagGraph<T> addMembers(TagKey<T> tag, Collection<RegistryKey<T>> members) {
+        NullCheck.requireAllNonNull(members);
+        Node<T> node = this.node(tag);
+        node.addAll(node.members, members);
+        return this;
+    }
+
+    /**
+     * Returns the local tags of this graph, in insertion order.
+     *
+     * @return an unmodifiable view of the local tags
+     */
+    public Set<TagKey<T>> getTags() {
+        return Collections.unmodifiableSet(this.nodes.keySet());
+    }
+
+    /**
+     * Returns the direct contents of a local tag.
+     *
+     * @param tag the tag
+     * @return an unmodifiable view of the direct contents of the tag
+     * @throws IllegalArgumentException if the tag is not part of this graph
+     */
+    public Contents<T> getContents(TagKey<T> tag) {
+        Node<T> node = this.nodes.get(tag);
+        if (node == null) {
+            throw new IllegalArgumentException("Tag #" + tag.id() + " is not part of this graph.");
+        }
+        return new Contents<>(Collections.unmodifiableSet(node.tags), Collections.unmodifiableSet(node.members));
+    }
+
+    /**
+     * Returns how many members and includes were added to a tag more than once, and dropped.
+     *
+     * @param tag the tag
+     * @return the number of dropped duplicates, or 0 if the tag is not part of this graph
+     */
+    public int getDuplicateCount(TagKey<T> tag) {
+        Node<T> node = this.nodes.get(tag);
+        return node == null ? 0 : node.duplicateCount;
+    }
+
+    /**
+     * Ensures that no local tag includes itself, directly or transitively.
+     *
+     * @throws IllegalStateException if the graph contains a cycle, with the path of the cycle
+     */
+    public void checkAcyclic() {
+        Set<TagKey<T>> done = new HashSet<>();
+        List<TagKey<T>> path = new ArrayList<>();
+
+        for (TagKey<T> tag : this.nodes.keySet()) {
+            List<TagKey<T>> cycle = this.findCycle(tag, path, done);
+            if (cycle != null) {
+                StringJoiner joiner = new StringJoiner(" -> ");
+                cycle.forEach(key -> joiner.add("#" + key.id()));
+                throw new IllegalStateException("Tag inclusion cycle detected: " + joiner);
+            }
+        }
+    }
+
+    /**
+     * Flattens every local tag.
+     *
+     * <p>The included local tags accepted by {@code inline} are replaced by their own flattened
+     * contents; every other included tag is kept as a reference. A tag should only be inlined
+     * when nothing else contributes to it, as the game will no longer look it up.
+     *
+     * @param inline whether a local tag may be inlined into the tags including it
+     * @return the flattened contents of every local tag, in insertion order
+     * @throws IllegalStateException if the graph contains a cycle
+     */
+    public Map<TagKey<T>, Contents<T>> flatten(Predicate<? super TagKey<T>> inline) {
+        NullCheck.requireNonNull(inline);
+        this.checkAcyclic();
+
+        Map<TagKey<T>, Contents<T>> memo = new HashMap<>();
+        Map<TagKey<T>, Contents<T>> flattened = new LinkedHashMap<>();
+        for (TagKey<T> tag : this.nodes.keySet()) {
+            flattened.put(tag, this.flatten(tag, inline, memo));
+        }
+        return flattened;
+    }
+
+    private Contents<T> flatten(
+        TagKey<T> tag,
+        Predicate<? super TagKey<T>> inline,
+        Map<TagKey<T>, Contents<T>> flattened
+    ) {
+        Contents<T> contents = flattened.get(tag);
+        if (contents != null) return contents;
+
+        Node<T> node = this.nodes.get(tag);
+        Set<TagKey<T>> tags = new LinkedHashSet<>();
+        Set<RegistryKey<T>> members = new LinkedHashSet<>(node.members);
+        for (TagKey<T> included : node.tags) {
+            if (this.nodes.containsKey(included) && inline.test(included)) {
+                Contents<T> inlined = this.flatten(included, inline, flattened);
+                tags.addAll(inlined.tags());
+                members.addAll(inlined.members());
+            } else {
+                tags.add(included);
+            }
+        }
+
+        contents = new Contents<>(Collections.unmodifiableSet(tags), Collections.unmodifiableSet(members));
+        flattened.put(tag, contents);
+        return contents;
+    }
+
+    /**
+     * Depth-first search for a cycle reachable from {@code tag}.
+     *
+     * @return the cycle, starting and ending with the same tag, or null if there is none
+     */
+    private List<TagKey<T>> findCycle(TagKey<T> tag, List<TagKey<T>> path, Set<TagKey<T>> done) {
+        if (done.contains(tag)) return null;
+
+        int index = path.indexOf(tag);
+        if (index >= 0) {
+            List<TagKey<T>> cycle = new ArrayList<>(path.subList(index, path.size()));
+            cycle.add(tag);
+            return cycle;
+        }
+
+        Node<T> node = this.nodes.get(tag);
+        if (node == null) return null;
+
+        path.add(tag);
+        for (TagKey<T> included : node.tags) {
+            List<TagKey<T>> cycle = this.findCycle(included, path, done);
+            if (cycle != null) return cycle;
+        }
+        path.remove(path.size() - 1);
+        done.add(tag);
+        return null;
+    }
+
+    private Node<T> node(TagKey<T> tag) {
+        NullCheck.requireNonNull(tag);
+        return this.nodes.computeIfAbsent(tag, key -> new Node<>());
+    }
+}
@@ -1,5 +1,8 @@
 package io.github.piscescup.mc.fabric.datagen.tag;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import io.github.piscescup.mc.fabric.datagen.DataGenOption;
 import io.github.piscescup.mc.fabric.register.tag.TagKeyRegister;
 import io.github.piscescup.mc.fabric.utils.CheckUtils;
@@ -9,13 +12,17 @@ import net.minecraft.data.DataProvider;
 import net.minecraft.entity.EntityType;
 import net.minecraft.fluid.Fluid;
 import net.minecraft.item.Item;
+import net.minecraft.registry.Registries;
 import net.minecraft.registry.Registry;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.util.Identifier;
 import net.minecraft.world.poi.PointOfInterestType;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.function.Function;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 
 
@@ -71,6 +78,9 @@ public class TagKeyGenerationOption<T> implements DataGenOption {
 
     private final RegistryKey<? extends Registry<T>> registryKey;
     private final TagKeyRegisterList<T> tagKeyRegisters;
+    private final boolean flatten;
+    private final boolean parallelScan;
+    private final boolean streaming;
 
     /**
      * Creates a {@code TagKeyGenerationOption} for the given registry key.
@@ -94,9 +104,62 @@ public class TagKeyGenerationOption<T> implements DataGenOption {
      */
     private TagKeyGenerationOption(
         RegistryKey<? extends Registry<T>> registryKey
+    ) {
+        this(registryKey, false, false, false);
+    }
+
+    private TagKeyGenerationOption(
+        RegistryKey<? extends Registry<T>> registryKey,
+        boolean flatten,
+        boolean parallelScan,
+        boolean streaming
     ) {
         this.registryKey = registryKey;
         this.tagKeyRegisters = TagKeysContainer.getTagKeyRegisters(registryKey);
+        this.flatten = flatten;
+        this.parallelScan = parallelScan;
+        this.streaming = streaming;
+    }
+
+    /**
+     * Returns an option for the same registry that emits flattened tags.
+     *
+     * <p>A flattened tag lists the members of the tags it includes instead of referencing them,
+     * as long as those tags are generated by the same provider and belong to the namespace of the
+     * generating mod (see {@link TagGraph#flatten}). Tags of other namespaces, including the vanilla
+     * tags extended through {@link TagKeyRegister#createForTagKey}, stay references, as other data
+     * packs may contribute to them.
+     *
+     * @return an option emitting flattened tags
+     */
+    public TagKeyGenerationOption<T> flattened() {
+        return this.flatten ? this : new TagKeyGenerationOption<>(this.registryKey, true, this.parallelScan, this.streaming);
+    }
+
+    /**
+     * Returns an option for the same registry that evaluates the tag predicates in parallel.
+     *
+     * <p>The predicates (see {@link TagKeyRegister#addMatching}) are always evaluated in a single
+     * scan of the registry; this option splits that scan into chunks run on the common pool. It
+     * only pays off for large registries or expensive predicates, as the providers themselves may
+     * already run concurrently.
+     *
+     * @return an option scanning the registry in parallel
+     */
+    public TagKeyGenerationOption<T> parallelScan() {
+        return this.parallelScan ? this : new TagKeyGenerationOption<>(this.registryKey, this.flatten, true, this.streaming);
+    }
+
+    /**
+     * Returns an option for the same registry that writes its tags with a {@link StreamingTagDataProvider}.
+     *
+     * <p>The generated files are the same; the tags are streamed to the output instead of being
+     * built as vanilla tag builders first, which bounds the memory used by very large tags.
+     *
+     * @return an option streaming its tags
+     */
+    public TagKeyGenerationOption<T> streaming() {
+        return this.streaming ? this : new TagKeyGenerationOption<>(this.registryKey, this.flatten, this.parallelScan, true);
     }
 
     /**
@@ -106,12 +169,52 @@ public class TagKeyGenerationOption<T> implements DataGenOption {
      * using the registrations contained in {@link #getTagKeyRegisters()}.
      *
      * @return a {@link FabricDataGenerator.Pack.RegistryDependentFactory} that creates
-     *         a {@link TagDataGenProvider} for this option
+     *         a {@link TagDataGenProvider}, or a {@link StreamingTagDataProvider}, for this option
      */
     @Override
     public @NotNull FabricDataGenerator.Pack.RegistryDependentFactory<DataProvider> toRegistryDependentFactory() {
-        return (output, registriesFuture) ->
-            new TagDataGenProvider<>(output, this, registriesFuture);
+        return (output, registriesFuture) -> this.streaming
+            ? new StreamingTagDataProvider<>(output, this, registriesFuture)
+            : new TagDataGenProvider<>(output, this, registriesFuture);
+    }
+
+    /**
+     * Computes a stable hash of the tag registrations of this option's registry.
+     *
+     * <p>Direct elements are hashed by their registry identifier. Lookup-dependent mappings and
+     * predicates (see {@link TagKeyRegister#getMappings()} and {@link TagKeyRegister#getPredicates()})
+     * can only be evaluated by the provider itself, so the option is not incremental as soon as one
+     * register has one, nor for registries that are not static.
+     *
+     * @return the input hash, or empty if the tags cannot be generated incrementally
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<HashCode> computeInputHash() {
+        Registry<T> registry = (Registry<T>) Registries.REGISTRIES.get(this.registryKey.getValue());
+        if (registry == null) return Optional.empty();
+
+        Hasher hasher = Hashing.sha256().newHasher()
+            .putString(this.registryKey.getValue().toString(), StandardCharsets.UTF_8)
+            .putBoolean(this.flatten);
+
+        for (TagKeyRegister<T> register : this.tagKeyRegisters) {
+            if (!register.getMappings().isEmpty() || !register.getPredicates().isEmpty()) return Optional.empty();
+
+            hasher.putByte((byte) 1).putString(register.getId().toString(), StandardCharsets.UTF_8);
+            for (TagKey<T> tag : register.getTags()) {
+                hasher.putByte((byte) 2).putString(tag.id().toString(), StandardCharsets.UTF_8);
+            }
+            for (RegistryKey<T> key : register.getKeys()) {
+                hasher.putByte((byte) 3).putString(key.getValue().toString(), StandardCharsets.UTF_8);
+            }
+            for (T element : register.getContent()) {
+                Identifier id = registry.getId(element);
+                if (id == null) return Optional.empty();
+                hasher.putByte((byte) 4).putString(id.toString(), StandardCharsets.UTF_8);
+            }
+        }
+        return Optional.of(hasher.hash());
     }
 
     /**
@@ -123,6 +226,33 @@ public class TagKeyGenerationOption<T> implements DataGenOption {
         return registryKey;
     }
 
+    /**
+     * Returns whether this option emits flattened tags, see {@link #flattened()}.
+     *
+     * @return true if the tags are flattened
+     */
+    public boolean isFlattened() {
+        return flatten;
+    }
+
+    /**
+     * Returns whether this option evaluates the tag predicates in parallel, see {@link #parallelScan()}.
+     *
+     * @return true if the registry scan is parallel
+     */
+    public boolean isParallelScan() {
+        return parallelScan;
+    }
+
+    /**
+     * Returns whether this option streams its tags, see {@link #streaming()}.
+     *
+     * @return true if the tags are written by a {@link StreamingTagDataProvider}
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
     /**
      * Returns the tag registrations associated with this option's registry.
      *
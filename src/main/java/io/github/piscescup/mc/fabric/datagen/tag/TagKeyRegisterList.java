@@ -1,18 +1,30 @@
 package io.github.piscescup.mc.fabric.datagen.tag;
 
 import io.github.piscescup.mc.fabric.register.tag.TagKeyRegister;
+import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
 import net.minecraft.registry.RegistryKey;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * A strongly-typed {@link List} implementation that stores {@link TagKeyRegister}
- * entries for a specific registry element type {@code T}.
+ * A thread-safe, append-only {@link List} of the {@link TagKeyRegister} entries of a specific
+ * registry element type {@code T}.
  *
  * <p>This class is primarily used as an internal aggregation structure for
- * tag-key registration during data generation. It wraps an underlying
- * {@link ArrayList} and delegates all {@link List} operations to it.
+ * tag-key registration during data generation. Registers are appended without locking, so modules
+ * initialized concurrently may register tags at the same time.
+ *
+ * <p>Reads go through a sorted snapshot, taken lazily after each modification: registers are
+ * ordered by tag identifier, then by registration order. Registers are appended by
+ * {@link TagKeyRegister#register()}, whose registrations a parallel
+ * {@link io.github.piscescup.mc.fabric.RegisterLamp RegisterLamp} captures and commits on its
+ * calling thread, module after module in topological order (see
+ * {@link io.github.piscescup.mc.fabric.register.RegistrationCapture RegistrationCapture}). Registers
+ * of a same tag declared by several modules are therefore ordered by the topological index of their
+ * modules, and the generated tags do not depend on which module finished first.
  *
  * <p>Instances are typically obtained through a higher-level container
  * (for example {@link TagKeysContainer#getTagKeyRegisters(RegistryKey) getTagKeyRegisters}),
@@ -28,10 +40,41 @@ public class TagKeyRegisterList<T>
     extends AbstractList<TagKeyRegister<T>>
     implements List<TagKeyRegister<T>>
 {
-    private final List<TagKeyRegister<T>> tagKeyRegisters;
+    private record Entry<T>(long sequence, TagKeyRegister<T> register) {}
+
+    private record Snapshot<T>(long version, List<TagKeyRegister<T>> registers) {}
+
+    private static final Comparator<Entry<?>> ORDER = Comparator
+        .comparing((Entry<?> entry) -> entry.register().getId())
+        .thenComparingLong(Entry::sequence);
+
+    private final Queue<Entry<T>> tagKeyRegisters = new ConcurrentLinkedQueue<>();
+    /**
+     * The registration order. Within a lamp, registers are only appended by the committing thread,
+     * so this is never decided by thread timing.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot<T> snapshot;
 
-    TagKeyRegisterList() {
-        this.tagKeyRegisters = new ArrayList<>();
+    TagKeyRegisterList() {}
+
+    /**
+     * Returns the sorted snapshot of the registers, taking it again if the list was modified.
+     */
+    private List<TagKeyRegister<T>> view() {
+        long version = this.version.get();
+        Snapshot<T> snapshot = this.snapshot;
+        if (snapshot != null && snapshot.version() == version) {
+            return snapshot.registers();
+        }
+
+        List<TagKeyRegister<T>> registers = this.tagKeyRegisters.stream()
+            .sorted(ORDER)
+            .map(Entry::register)
+            .toList();
+        this.snapshot = new Snapshot<>(version, registers);
+        return registers;
     }
 
     @Override
@@ -44,108 +87,40 @@ public class TagKeyRegisterList<T>
         return this.tagKeyRegisters.isEmpty();
     }
 
-    @Override
-    public boolean contains(Object o) {
-        return this.tagKeyRegisters.contains(o);
-    }
-
     @Override
     public @NotNull Iterator<TagKeyRegister<T>> iterator() {
-        return this.tagKeyRegisters.iterator();
+        return this.view().iterator();
     }
 
     @Override
-    public @NotNull Object[] toArray() {
-        return this.tagKeyRegisters.toArray();
-    }
-
-    @Override
-    public @NotNull <T> T[] toArray(@NotNull T[] a) {
-        return this.tagKeyRegisters.toArray(a);
+    public TagKeyRegister<T> get(int index) {
+        return this.view().get(index);
     }
 
     @Override
     public boolean add(TagKeyRegister<T> tagKeyRegister) {
-        return this.tagKeyRegisters.add(tagKeyRegister);
+        NullCheck.requireNonNull(tagKeyRegister);
+        this.tagKeyRegisters.add(new Entry<>(this.sequence.getAndIncrement(), tagKeyRegister));
+        this.version.incrementAndGet();
+        return true;
     }
 
     @Override
     public boolean remove(Object o) {
-        return this.tagKeyRegisters.remove(o);
-    }
-
-    @Override
-    public boolean containsAll(@NotNull Collection<?> c) {
-        return this.tagKeyRegisters.containsAll(c);
-    }
-
-    @Override
-    public boolean addAll(@NotNull Collection<? extends TagKeyRegister<T>> c) {
-        return this.tagKeyRegisters.addAll(c);
-    }
-
-    @Override
-    public boolean addAll(int index, @NotNull Collection<? extends TagKeyRegister<T>> c) {
-        return this.tagKeyRegisters.addAll(index, c);
-    }
-
-    @Override
-    public boolean removeAll(@NotNull Collection<?> c) {
-        return this.tagKeyRegisters.removeAll(c);
-    }
-
-    @Override
-    public boolean retainAll(@NotNull Collection<?> c) {
-        return this.tagKeyRegisters.retainAll(c);
+        Iterator<Entry<T>> iterator = this.tagKeyRegisters.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().register().equals(o)) {
+                iterator.remove();
+                this.version.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public void clear() {
         this.tagKeyRegisters.clear();
+        this.version.incrementAndGet();
     }
-
-    @Override
-    public TagKeyRegister<T> get(int index) {
-        return this.tagKeyRegisters.get(index);
-    }
-
-    @Override
-    public TagKeyRegister<T> set(int index, TagKeyRegister<T> element) {
-        return this.tagKeyRegisters.set(index, element);
-    }
-
-    @Override
-    public void add(int index, TagKeyRegister<T> element) {
-        this.tagKeyRegisters.add(index, element);
-    }
-
-    @Override
-    public TagKeyRegister<T> remove(int index) {
-        return this.tagKeyRegisters.remove(index);
-    }
-
-    @Override
-    public int indexOf(Object o) {
-        return this.tagKeyRegisters.indexOf(o);
-    }
-
-    @Override
-    public int lastIndexOf(Object o) {
-        return this.tagKeyRegisters.lastIndexOf(o);
-    }
-
-    @Override
-    public @NotNull ListIterator<TagKeyRegister<T>> listIterator() {
-        return this.tagKeyRegisters.listIterator();
-    }
-
-    @Override
-    public @NotNull ListIterator<TagKeyRegister<T>> listIterator(int index) {
-        return this.tagKeyRegisters.listIterator(index);
-    }
-
-    @Override
-    public @NotNull List<TagKeyRegister<T>> subList(int fromIndexInclusive, int toIndexExclusive) {
-        return this.tagKeyRegisters.subList(fromIndexInclusive, toIndexExclusive);
-    }
-}
\ No newline at end of file
+}
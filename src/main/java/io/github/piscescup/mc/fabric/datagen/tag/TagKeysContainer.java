@@ -3,10 +3,13 @@ package io.github.piscescup.mc.fabric.datagen.tag;
 import net.minecraft.registry.Registry;
 import net.minecraft.registry.RegistryKey;
 
-import java.util.*;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Global container that stores and resolves {@link TagKeyRegisterList} instances
+ * Global, thread-safe container that stores and resolves {@link TagKeyRegisterList} instances
  * per Minecraft {@link RegistryKey registry}.
  *
  * <p>This class maintains a mapping from a registry reference
@@ -17,6 +20,10 @@ import java.util.*;
  * {@link #getTagKeyRegisters(RegistryKey)}, the corresponding register list will be
  * created if it does not already exist.
  *
+ * <p>Each registry has its own list, which accepts concurrent appends without locking, so tags of
+ * different registries never contend. Registries and tags are both read in a sorted order, so the
+ * generated files do not depend on the initialization order of the modules.
+ *
  * @author REN YuanTong
  * @since 1.0.0
  */
@@ -24,12 +31,9 @@ public class TagKeysContainer {
 
     /**
      * Mapping from registry keys to their corresponding tag key register list.
-     *
-     * <p>A {@link LinkedHashMap} is used to preserve insertion order, which may be
-     * useful for deterministic iteration during data generation.
      */
     private static final Map<RegistryKey<? extends Registry<?>>, TagKeyRegisterList<?>>
-        REGISTRY_TO_REGISTER_MAP = new LinkedHashMap<>();
+        REGISTRY_TO_REGISTER_MAP = new ConcurrentHashMap<>();
 
     /**
      * Returns (and creates if absent) the {@link TagKeyRegisterList} associated with
@@ -50,4 +54,15 @@ public class TagKeysContainer {
         return (TagKeyRegisterList<T>) REGISTRY_TO_REGISTER_MAP
             .computeIfAbsent(registryRef, reg -> new TagKeyRegisterList<>());
     }
+
+    /**
+     * Returns the registries that tag keys have been registered for, sorted by registry identifier.
+     *
+     * @return a snapshot of the registry keys
+     */
+    public static List<RegistryKey<? extends Registry<?>>> getRegistries() {
+        return REGISTRY_TO_REGISTER_MAP.keySet().stream()
+            .sorted(Comparator.comparing(RegistryKey::getValue))
+            .toList();
+    }
 }
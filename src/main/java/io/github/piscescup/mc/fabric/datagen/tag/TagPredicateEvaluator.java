@@ -0,0 +1,88 @@
+package io.github.piscescup.mc.fabric.datagen.tag;
+
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates the predicates of every tag of a registry in a single scan of the registry.
+ *
+ * <p>Each registry entry is tested against every registered predicate, so the cost is one scan
+ * per registry rather than one per tag. The scan may be split into chunks evaluated in parallel;
+ * the chunks are merged in registry order, so the result is the same either way.
+ *
+ * <p>This class is an implementation detail of {@link TagDataGenProvider}.
+ *
+ * @param <T> the element type of the registry
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+final class TagPredicateEvaluator<T> {
+    private static final int CHUNK_SIZE = 1024;
+
+    private final List<TagKey<T>> tags = new ArrayList<>();
+    private final List<Predicate<RegistryEntry.Reference<T>>> predicates = new ArrayList<>();
+
+    void add(TagKey<T> tag, Predicate<RegistryEntry.Reference<T>> predicate) {
+        this.tags.add(tag);
+        this.predicates.add(predicate);
+    }
+
+    boolean isEmpty() {
+        return this.predicates.isEmpty();
+    }
+
+    /**
+     * Tests every predicate against every entry.
+     *
+     * @param entries  the registry entries, in registry order
+     * @param parallel whether to evaluate chunks of the entries in parallel
+     * @return the keys of the matching entries per tag, in registry order
+     */
+    Map<TagKey<T>, List<RegistryKey<T>>> evaluate(List<RegistryEntry.Reference<T>> entries, boolean parallel) {
+        int chunks = Math.max(1, (entries.size() + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        IntStream indices = IntStream.range(0, chunks);
+        if (parallel && chunks > 1) {
+            indices = indices.parallel();
+        }
+
+        List<List<List<RegistryKey<T>>>> results = indices
+            .mapToObj(chunk -> this.evaluate(
+                entries.subList(chunk * CHUNK_SIZE, Math.min(entries.size(), (chunk + 1) * CHUNK_SIZE))
+            ))
+            .toList();
+
+        Map<TagKey<T>, List<RegistryKey<T>>> matches = new LinkedHashMap<>();
+        for (int i = 0; i < this.predicates.size(); i++) {
+            List<RegistryKey<T>> keys = matches.computeIfAbsent(this.tags.get(i), tag -> new ArrayList<>());
+            for (List<List<RegistryKey<T>>> chunk : results) {
+                keys.addAll(chunk.get(i));
+            }
+        }
+        return matches;
+    }
+
+    private List<List<RegistryKey<T>>> evaluate(List<RegistryEntry.Reference<T>> entries) {
+        List<List<RegistryKey<T>>> matches = new ArrayList<>(this.predicates.size());
+        for (int i = 0; i < this.predicates.size(); i++) {
+            matches.add(new ArrayList<>());
+        }
+
+        for (RegistryEntry.Reference<T> entry : entries) {
+            for (int i = 0; i < this.predicates.size(); i++) {
+                if (this.predicates.get(i).test(entry)) {
+                    matches.get(i).add(entry.registryKey());
+                }
+            }
+        }
+        return matches;
+    }
+}
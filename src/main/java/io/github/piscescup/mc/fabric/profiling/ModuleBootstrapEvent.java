@@ -0,0 +1,37 @@
+package io.github.piscescup.mc.fabric.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted for every phase of a {@link io.github.piscescup.mc.fabric.Registered Registered}
+ * module bootstrapped by {@link io.github.piscescup.mc.fabric.RegisterLamp RegisterLamp}.
+ *
+ * <p>The construction phase includes the static initialization of the module class, which is
+ * where most modules register their entries.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ * @see RegistrationProfiler
+ */
+@Name("io.github.piscescup.pcdevlib.ModuleBootstrap")
+@Label("Module Bootstrap")
+@Description("Construction or registration of a PC Develop Lib module")
+@Category({"PC Develop Lib", "Registration"})
+@StackTrace(false)
+final class ModuleBootstrapEvent extends Event {
+    @Label("Module")
+    String module;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
@@ -0,0 +1,39 @@
+package io.github.piscescup.mc.fabric.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted for every single entry registered through a library {@code Register}.
+ *
+ * <p>The event duration covers the whole {@code register()} call, including the entry factory,
+ * so slow factories show up directly in a flight recording.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ * @see RegistrationProfiler
+ */
+@Name("io.github.piscescup.pcdevlib.RegistrationEntry")
+@Label("Registration Entry")
+@Description("Registration of a single entry through PC Develop Lib")
+@Category({"PC Develop Lib", "Registration"})
+@StackTrace(false)
+final class RegistrationEntryEvent extends Event {
+    @Label("Module")
+    String module;
+
+    @Label("Registry")
+    String registry;
+
+    @Label("Identifier")
+    String identifier;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
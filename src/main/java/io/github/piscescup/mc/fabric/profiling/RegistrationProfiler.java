@@ -0,0 +1,223 @@
+package io.github.piscescup.mc.fabric.profiling;
+
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+
+/**
+ * Collects wall time, allocated bytes and entry counts of the library's registration workflow.
+ *
+ * <p>Two kinds of measurements are taken:
+ * <ul>
+ *   <li>per module, by {@link io.github.piscescup.mc.fabric.RegisterLamp RegisterLamp}, for the
+ *       construction (including static initialization) and the registration of every module;</li>
+ *   <li>per entry, by every {@link io.github.piscescup.mc.fabric.register.Register Register}
+ *       implementation, for each {@code register()} call including its factory.</li>
+ * </ul>
+ *
+ * <p>Every measurement is emitted as a JFR event ({@code io.github.piscescup.pcdevlib.ModuleBootstrap}
+ * and {@code io.github.piscescup.pcdevlib.RegistrationEntry}) whenever a flight recording has them
+ * enabled. In addition, when the profiler is enabled (with the system property
+ * {@value #ENABLED_PROPERTY} or {@link #setEnabled(boolean)}), the measurements are kept in memory
+ * and logged as a {@link RegistrationReport} at the end of the bootstrap.
+ *
+ * <p>Allocated bytes are read from the current thread's allocation counter and therefore include
+ * everything allocated by nested calls, e.g. classes initialized by an entry factory.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+public final class RegistrationProfiler {
+    /**
+     * The system property enabling the in-memory report.
+     */
+    public static final String ENABLED_PROPERTY = "pc-dev-lib.profileRegistration";
+
+    /**
+     * The module name used for entries registered outside a module bootstrapped by a
+     * {@link io.github.piscescup.mc.fabric.RegisterLamp RegisterLamp}.
+     */
+    public static final String UNKNOWN_MODULE = "<no module>";
+
+    /**
+     * The phase of a module bootstrap.
+     */
+    public enum Phase {
+        CONSTRUCT,
+        REGISTER
+    }
+
+    private static final int REPORTED_SLOWEST_ENTRIES = 20;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = resolveThreadMXBean();
+
+    private static final ThreadLocal<String> CURRENT_MODULE = new ThreadLocal<>();
+
+    private static final Queue<RegistrationReport.EntrySample> ENTRIES = new ConcurrentLinkedQueue<>();
+
+    private static final Map<String, RegistrationReport.ModuleSample> MODULES = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private RegistrationProfiler() {
+        MOD_LOGGER.error(
+            "Attempted to instantiate {}", RegistrationProfiler.class.getCanonicalName()
+        );
+        throw new UnsupportedOperationException();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        RegistrationProfiler.enabled = enabled;
+    }
+
+    /**
+     * Measures the registration of a single entry.
+     *
+     * @param registry     the registry the entry is registered into
+     * @param id           the identifier of the entry
+     * @param registration the registration action
+     * @param <V>          the type of the registration result
+     * @return the result of {@code registration}
+     */
+    public static <V> V profileEntry(@NotNull Identifier registry, @NotNull Identifier id, @NotNull Supplier<V> registration) {
+        RegistrationEntryEvent event = new RegistrationEntryEvent();
+        boolean record = enabled;
+        if (!record && !event.isEnabled()) {
+            return registration.get();
+        }
+
+        event.begin();
+        long startBytes = allocatedBytes();
+        long start = System.nanoTime();
+        try {
+            return registration.get();
+        } finally {
+            long nanos = System.nanoTime() - start;
+            long bytes = allocatedBytes() - startBytes;
+            event.end();
+
+            String module = currentModule();
+            if (event.shouldCommit()) {
+                event.module = module;
+                event.registry = registry.toString();
+                event.identifier = id.toString();
+                event.allocatedBytes = bytes;
+                event.commit();
+            }
+            if (record) {
+                ENTRIES.add(new RegistrationReport.EntrySample(module, registry.toString(), id.toString(), nanos, bytes));
+            }
+        }
+    }
+
+    /**
+     * Measures one phase of a module bootstrap. Entries registered by the current thread while
+     * {@code action} runs are attributed to {@code module}.
+     *
+     * @param module the module name
+     * @param phase  the bootstrap phase
+     * @param action the phase action
+     * @param <V>    the type of the action result
+     * @return the result of {@code action}
+     */
+    public static <V> V profileModule(@NotNull String module, @NotNull Phase phase, @NotNull Supplier<V> action) {
+        String outer = CURRENT_MODULE.get();
+        CURRENT_MODULE.set(module);
+
+        ModuleBootstrapEvent event = new ModuleBootstrapEvent();
+        event.begin();
+        long startBytes = allocatedBytes();
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            long nanos = System.nanoTime() - start;
+            long bytes = allocatedBytes() - startBytes;
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.module = module;
+                event.phase = phase.name();
+                event.allocatedBytes = bytes;
+                event.commit();
+            }
+            if (enabled) {
+                MODULES.merge(
+                    module,
+                    phase == Phase.CONSTRUCT
+                        ? new RegistrationReport.ModuleSample(module, nanos, 0L, bytes)
+                        : new RegistrationReport.ModuleSample(module, 0L, nanos, bytes),
+                    RegistrationReport.ModuleSample::merge
+                );
+            }
+
+            if (outer == null) {
+                CURRENT_MODULE.remove();
+            } else {
+                CURRENT_MODULE.set(outer);
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of all measurements collected so far.
+     *
+     * @return the current report
+     */
+    public static RegistrationReport snapshot() {
+        List<RegistrationReport.ModuleSample> modules = MODULES.values().stream()
+            .sorted(Comparator.comparingLong(RegistrationReport.ModuleSample::totalNanos).reversed())
+            .toList();
+        return new RegistrationReport(modules, List.copyOf(ENTRIES));
+    }
+
+    /**
+     * Logs the current report if the profiler is enabled.
+     */
+    public static void logReport() {
+        if (!enabled) return;
+        MOD_LOGGER.info(snapshot().format(REPORTED_SLOWEST_ENTRIES));
+    }
+
+    /**
+     * Discards all measurements collected so far.
+     */
+    public static void reset() {
+        ENTRIES.clear();
+        MODULES.clear();
+    }
+
+    private static String currentModule() {
+        String module = CURRENT_MODULE.get();
+        return module == null ? UNKNOWN_MODULE : module;
+    }
+
+    private static long allocatedBytes() {
+        if (THREAD_MX_BEAN == null) return 0L;
+        long bytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        return Math.max(bytes, 0L);
+    }
+
+    private static com.sun.management.ThreadMXBean resolveThreadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported()
+            && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        return null;
+    }
+}
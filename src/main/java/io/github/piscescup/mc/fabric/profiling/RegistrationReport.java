@@ -0,0 +1,121 @@
+package io.github.piscescup.mc.fabric.profiling;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * An immutable snapshot of the registration measurements collected by {@link RegistrationProfiler}.
+ *
+ * @param modules the per-module measurements, slowest first
+ * @param entries the per-entry measurements, in registration order
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+public record RegistrationReport(List<ModuleSample> modules, List<EntrySample> entries) {
+
+    /**
+     * The measurements of a single module.
+     *
+     * @param module         the module name
+     * @param constructNanos wall time spent constructing (and class-initializing) the module
+     * @param registerNanos  wall time spent in {@code Registered.register(String)}
+     * @param allocatedBytes bytes allocated by the bootstrapping thread during both phases
+     */
+    public record ModuleSample(String module, long constructNanos, long registerNanos, long allocatedBytes) {
+        public long totalNanos() {
+            return constructNanos + registerNanos;
+        }
+
+        ModuleSample merge(ModuleSample other) {
+            return new ModuleSample(
+                module,
+                constructNanos + other.constructNanos,
+                registerNanos + other.registerNanos,
+                allocatedBytes + other.allocatedBytes
+            );
+        }
+    }
+
+    /**
+     * The measurements of a single registered entry.
+     *
+     * @param module         the module being bootstrapped when the entry was registered,
+     *                       or {@link RegistrationProfiler#UNKNOWN_MODULE}
+     * @param registry       the registry the entry was registered into
+     * @param identifier     the identifier of the entry
+     * @param nanos          wall time spent in the register call, including the entry factory
+     * @param allocatedBytes bytes allocated by the registering thread during the call
+     */
+    public record EntrySample(String module, String registry, String identifier, long nanos, long allocatedBytes) {
+    }
+
+    public RegistrationReport {
+        modules = List.copyOf(modules);
+        entries = List.copyOf(entries);
+    }
+
+    /**
+     * Returns the number of entries registered by each module.
+     *
+     * @return entry counts keyed by module name
+     */
+    public Map<String, Long> entryCountByModule() {
+        return entries.stream()
+            .collect(Collectors.groupingBy(EntrySample::module, TreeMap::new, Collectors.counting()));
+    }
+
+    /**
+     * Returns the number of entries registered into each registry.
+     *
+     * @return entry counts keyed by registry name
+     */
+    public Map<String, Long> entryCountByRegistry() {
+        return entries.stream()
+            .collect(Collectors.groupingBy(EntrySample::registry, TreeMap::new, Collectors.counting()));
+    }
+
+    /**
+     * Formats this report as a human-readable, multi-line table.
+     *
+     * @param slowestEntries the number of slowest entries to list
+     * @return the formatted report
+     */
+    public String format(int slowestEntries) {
+        StringBuilder builder = new StringBuilder("Registration report\n");
+        Map<String, Long> moduleCounts = entryCountByModule();
+
+        builder.append(String.format("  %-40s %12s %12s %12s %8s%n", "Module", "Construct ms", "Register ms", "Alloc KiB", "Entries"));
+        modules.forEach(module -> builder.append(String.format(
+            "  %-40s %12.3f %12.3f %12d %8d%n",
+            module.module(),
+            module.constructNanos() / 1.0e6,
+            module.registerNanos() / 1.0e6,
+            module.allocatedBytes() / 1024,
+            moduleCounts.getOrDefault(module.module(), 0L)
+        )));
+
+        builder.append(String.format("  %-40s %8s%n", "Registry", "Entries"));
+        entryCountByRegistry().forEach((registry, count) ->
+            builder.append(String.format("  %-40s %8d%n", registry, count))
+        );
+
+        builder.append(String.format("  Slowest %d of %d entries:%n", Math.min(slowestEntries, entries.size()), entries.size()));
+        entries.stream()
+            .sorted(Comparator.comparingLong(EntrySample::nanos).reversed())
+            .limit(slowestEntries)
+            .forEach(entry -> builder.append(String.format(
+                "  %-40s %12.3f ms %10d KiB  (%s, %s)%n",
+                entry.identifier(),
+                entry.nanos() / 1.0e6,
+                entry.allocatedBytes() / 1024,
+                entry.registry(),
+                entry.module()
+            )));
+
+        return builder.toString();
+    }
+}
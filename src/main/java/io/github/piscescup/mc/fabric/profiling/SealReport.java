@@ -0,0 +1,74 @@
+package io.github.piscescup.mc.fabric.profiling;
+
+import java.util.Map;
+
+/**
+ * The outcome of a seal phase, in which registers drop the builder state they no longer need
+ * once registered.
+ *
+ * <p>The heap figures are only measured when the {@link RegistrationProfiler} is enabled, as
+ * measuring them requires a full garbage collection before and after the seal; otherwise they
+ * are {@code -1}.
+ *
+ * @param sealedRegisters the number of registers sealed
+ * @param sealedByRegistry the number of registers sealed per registry
+ * @param nanos           wall time spent sealing, excluding the garbage collections
+ * @param heapUsedBefore  used heap bytes right before sealing, or {@code -1}
+ * @param heapUsedAfter   used heap bytes right after sealing, or {@code -1}
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+public record SealReport(
+    int sealedRegisters,
+    Map<String, Integer> sealedByRegistry,
+    long nanos,
+    long heapUsedBefore,
+    long heapUsedAfter
+) {
+    public SealReport {
+        sealedByRegistry = Map.copyOf(sealedByRegistry);
+    }
+
+    /**
+     * Returns whether the heap usage was measured.
+     *
+     * @return {@code true} if both heap figures are available
+     */
+    public boolean isHeapMeasured() {
+        return heapUsedBefore >= 0 && heapUsedAfter >= 0;
+    }
+
+    /**
+     * Returns the number of heap bytes released by the seal, or {@code 0} if the heap usage was
+     * not measured.
+     *
+     * @return the released heap bytes
+     */
+    public long heapSavedBytes() {
+        return isHeapMeasured() ? Math.max(heapUsedBefore - heapUsedAfter, 0L) : 0L;
+    }
+
+    /**
+     * Formats this report as a human-readable, multi-line table.
+     *
+     * @return the formatted report
+     */
+    public String format() {
+        StringBuilder builder = new StringBuilder("Seal report\n");
+        builder.append(String.format("  Sealed %d registers in %.3f ms%n", sealedRegisters, nanos / 1.0e6));
+
+        builder.append(String.format("  %-40s %8s%n", "Registry", "Sealed"));
+        sealedByRegistry.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> builder.append(String.format("  %-40s %8d%n", entry.getKey(), entry.getValue())));
+
+        if (isHeapMeasured()) {
+            builder.append(String.format(
+                "  Heap used: %d KiB -> %d KiB (%d KiB released)%n",
+                heapUsedBefore / 1024, heapUsedAfter / 1024, heapSavedBytes() / 1024
+            ));
+        }
+        return builder.toString();
+    }
+}
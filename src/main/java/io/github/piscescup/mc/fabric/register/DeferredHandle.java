@@ -0,0 +1,131 @@
+package io.github.piscescup.mc.fabric.register;
+
+import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+
+/**
+ * A handle to a registration that has been captured but not yet performed.
+ * <p>
+ * A deferred handle wraps a fully configured {@link Register} and is enqueued into the
+ * {@link DeferredRegistry}. All pending handles are registered in one batch by
+ * {@link DeferredRegistry#registerAll()} (invoked by
+ * {@link io.github.piscescup.mc.fabric.RegisterLamp#registerAll(String) RegisterLamp#registerAll}),
+ * after which {@link #get()} resolves to the registered object.
+ * <p>
+ * Post-registration operations such as
+ * {@link PostRegistrable#translate(io.github.piscescup.mc.fabric.utils.constant.MCLanguageOption, String) translate}
+ * are queued with {@link #then(Consumer)} and run right after the entry is registered.
+ *
+ * <h2>Usages</h2>
+ * <pre>{@code
+ * public static final DeferredHandle<Item, ItemPostRegistrable> TEST_ITEM = ItemRegister.createForItem(MOD_ID, "test_item")
+ *     .setting(new Item.Settings().maxCount(16))
+ *     .registerDeferred()
+ *     .then(post -> post.translate(MCLanguageOption.EN_US, "Test Item"));
+ *
+ * // Once the batch has been registered:
+ * Item item = TEST_ITEM.get();
+ * }</pre>
+ *
+ * @param <T>    The type of the object being registered (e.g. item, block)
+ * @param <POST> The fluent {@code PostRegistrable} type produced by the registration
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ * @see DeferredRegistry
+ */
+public final class DeferredHandle<T, POST extends PostRegistrable<T, POST, ?>> implements Supplier<T> {
+    private final Register<T, POST, ?> register;
+    private final long sequence;
+    private final List<Consumer<? super POST>> postActions;
+
+    private volatile POST post;
+
+    DeferredHandle(Register<T, POST, ?> register, long sequence) {
+        this.register = register;
+        this.sequence = sequence;
+        this.postActions = new ArrayList<>();
+    }
+
+    /**
+     * Queues an operation to run on the post-registration instance right after this entry
+     * has been registered. If the entry is already registered, the operation runs immediately.
+     *
+     * @param action the post-registration operation
+     * @return this handle for chaining
+     * @throws NullPointerException if {@code action} is null
+     */
+    public synchronized DeferredHandle<T, POST> then(@NotNull Consumer<? super POST> action) {
+        NullCheck.requireNonNull(action);
+        if (this.post != null) {
+            action.accept(this.post);
+        } else {
+            this.postActions.add(action);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the registered object.
+     *
+     * @return the registered object
+     * @throws IllegalStateException if the batch containing this entry has not been registered yet
+     */
+    @Override
+    public @NotNull T get() {
+        POST registered = this.post;
+        if (registered == null) {
+            MOD_LOGGER.error(
+                "Deferred entry {} was accessed before it has been registered.", this.register.getId()
+            );
+            throw new IllegalStateException(
+                "Deferred entry " + this.register.getId() + " has not been registered yet."
+            );
+        }
+        return registered.get();
+    }
+
+    /**
+     * Returns the identifier of the deferred entry. Available before registration.
+     *
+     * @return the identifier of the entry
+     */
+    public @NotNull Identifier getId() {
+        return this.register.getId();
+    }
+
+    /**
+     * Returns whether this entry has been registered.
+     *
+     * @return {@code true} once {@link #get()} can be resolved
+     */
+    public boolean isRegistered() {
+        return this.post != null;
+    }
+
+    Register<T, POST, ?> getRegister() {
+        return this.register;
+    }
+
+    long getSequence() {
+        return this.sequence;
+    }
+
+    /**
+     * Performs the registration and runs the queued post-registration operations.
+     */
+    synchronized void resolve() {
+        POST registered = this.register.register();
+        this.postActions.forEach(action -> action.accept(registered));
+        this.postActions.clear();
+        this.post = registered;
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.piscescup.mc.fabric.register;
+
+import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+
+/**
+ * Global queue of {@link DeferredHandle deferred registrations}.
+ * <p>
+ * Capturing a registration with {@link #defer(PreRegistrable)} (or the fluent
+ * {@code registerDeferred()} of the pre-registration stages) only enqueues the configured
+ * register, so initializing a holder class no longer touches any registry. The whole queue is
+ * then registered in one batch by {@link #registerAll()}.
+ *
+ * <h2>Batch order</h2>
+ * <p>
+ * The batch is registered in a deterministic order, independent of the order (or the threads)
+ * in which the holder classes were initialized: entries are grouped by registry — blocks, items,
+ * item groups, points of interest and villager professions first, every other registry afterwards
+ * in identifier order — and sorted by identifier within a registry. As a consequence, a deferred
+ * block item may safely refer to a deferred block.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ * @see DeferredHandle
+ */
+public final class DeferredRegistry {
+    private static final List<Identifier> REGISTRY_ORDER = List.of(
+        RegistryKeys.BLOCK.getValue(),
+        RegistryKeys.ITEM.getValue(),
+        RegistryKeys.ITEM_GROUP.getValue(),
+        RegistryKeys.POINT_OF_INTEREST_TYPE.getValue(),
+        RegistryKeys.VILLAGER_PROFESSION.getValue()
+    );
+
+    private static final Comparator<DeferredHandle<?, ?>> BATCH_ORDER =
+        Comparator.<DeferredHandle<?, ?>>comparingInt(handle -> registryRank(handle.getRegister().registryId()))
+            .thenComparing(handle -> handle.getRegister().registryId().toString())
+            .thenComparing(handle -> handle.getId().toString())
+            .thenComparingLong(DeferredHandle::getSequence);
+
+    private static final Queue<DeferredHandle<?, ?>> PENDING = new ConcurrentLinkedQueue<>();
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private DeferredRegistry() {
+        MOD_LOGGER.error(
+            "Attempted to instantiate {}", DeferredRegistry.class.getCanonicalName()
+        );
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Captures a fully configured registration without performing it.
+     *
+     * @param pre  the configured pre-registration stage; must be a library {@link Register}
+     * @param <T>  the type of the object being registered
+     * @param <POST> the post-registration type
+     * @return a handle resolving to the registered object once the batch has been registered
+     * @throws NullPointerException     if {@code pre} is null
+     * @throws IllegalArgumentException if {@code pre} is not a {@link Register}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, POST extends PostRegistrable<T, POST, ?>> @NotNull DeferredHandle<T, POST> defer(
+        @NotNull PreRegistrable<POST> pre
+    ) {
+        NullCheck.requireNonNull(pre);
+        if (!(pre instanceof Register<?, ?, ?> register)) {
+            throw new IllegalArgumentException(
+                "Only library registers can be deferred, got " + pre.getClass().getName()
+            );
+        }
+
+        DeferredHandle<T, POST> handle =
+            new DeferredHandle<>((Register<T, POST, ?>) register, SEQUENCE.getAndIncrement());
+        PENDING.add(handle);
+        return handle;
+    }
+
+    /**
+     * Registers every pending deferred entry in one batch.
+     * <p>
+     * Entries deferred after this call are kept until the next call.
+     *
+     * @return the number of entries registered
+     */
+    public static int registerAll() {
+        List<DeferredHandle<?, ?>> batch = new ArrayList<>(PENDING.size());
+        DeferredHandle<?, ?> handle;
+        while ((handle = PENDING.poll()) != null) {
+            batch.add(handle);
+        }
+        if (batch.isEmpty()) return 0;
+
+        batch.sort(BATCH_ORDER);
+        for (DeferredHandle<?, ?> pending : batch) {
+            pending.resolve();
+        }
+
+        MOD_LOGGER.info("Registered {} deferred entries.", batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Returns the number of entries waiting for {@link #registerAll()}.
+     *
+     * @return the number of pending entries
+     */
+    public static int pendingCount() {
+        return PENDING.size();
+    }
+
+    private static int registryRank(Identifier registry) {
+        int rank = REGISTRY_ORDER.indexOf(registry);
+        return rank < 0 ? REGISTRY_ORDER.size() : rank;
+    }
+}
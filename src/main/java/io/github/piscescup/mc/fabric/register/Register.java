@@ -1,10 +1,16 @@
 package io.github.piscescup.mc.fabric.register;
 
+import io.github.piscescup.mc.fabric.datagen.lang.Translation;
+import io.github.piscescup.mc.fabric.profiling.RegistrationProfiler;
+import io.github.piscescup.mc.fabric.utils.constant.MCLanguageOption;
 import net.minecraft.registry.Registry;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.function.Supplier;
+
 import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
 
 /**
@@ -17,6 +23,9 @@ import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
  * during {@link #register()} and then allow additional configuration (for
  * example localization or metadata) before the final object is retrieved via
  * the terminal operations, such as {@link #get()}, {@link #getRegister()}, {@link #getRegistryKey()}.
+ * <p>
+ * Once registered, a register is tracked by {@link RegisterSeal} and is eventually sealed:
+ * {@link #releaseBuilderState()} drops whatever was only needed to build the registered object.
  *
  * @param <T>    The type of the object being registered (e.g. item, block)
  * @param <POST> The fluent {@code PostRegistrable} type returned by {@link #register()}
@@ -30,10 +39,24 @@ public abstract
 class Register<T, POST extends PostRegistrable<T, POST, R>, R extends Register<T, POST, R>>
     implements PreRegistrable<POST>, PostRegistrable<T, POST, R>
 {
+    /**
+     * Lock shared by every register, guarding all mutations of the vanilla registries
+     * (and of the library's own registration containers) made through {@link #commit(Supplier)}.
+     */
+    private static final Object REGISTRY_LOCK = new Object();
+
     protected Identifier id;
     protected T thing;
     protected RegistryKey<T> registryKey;
 
+    private volatile boolean sealed;
+
+    /**
+     * Whether the registration of this register has been queued by a {@link RegistrationCapture}
+     * and not committed yet.
+     */
+    private volatile boolean captured;
+
     protected Register() {}
 
     protected Register(RegistryKey<? extends Registry<T>> registry, Identifier id) {
@@ -44,6 +67,137 @@ class Register<T, POST extends PostRegistrable<T, POST, R>, R extends Register<T
     @Override
     public abstract POST register();
 
+    /**
+     * Performs a registration action while holding the shared registry lock.
+     * <p>
+     * Vanilla registries are not thread-safe, while {@link io.github.piscescup.mc.fabric.RegisterLamp RegisterLamp}
+     * may initialize independent modules concurrently. Implementations must therefore route every
+     * {@code Registry.register} call (and any other shared registration state they mutate) through
+     * this method. Note that the lock only makes the registrations safe, not ordered: a parallel lamp
+     * additionally captures the registrations of its modules (see {@link RegistrationCapture}) so
+     * that they are applied in a deterministic order.
+     *
+     * @param registration the registration action
+     * @param <V>          the type of the registration result
+     * @return the result of {@code registration}
+     */
+    protected static <V> V commit(@NotNull Supplier<V> registration) {
+        synchronized (REGISTRY_LOCK) {
+            return registration.get();
+        }
+    }
+
+    /**
+     * Performs the whole registration of this entry under the {@link RegistrationProfiler}, which
+     * records its wall time and allocations when profiling is enabled.
+     * <p>
+     * Implementations should wrap the body of {@link #register()} with this method, so that
+     * the measurement includes the factory creating the registered object.
+     * <p>
+     * Within a {@link RegistrationCapture}, the registration is queued rather than performed,
+     * and this register is returned as is until the capture is committed.
+     *
+     * @param registration the registration action
+     * @return the result of {@code registration}, or this register if the registration is queued
+     */
+    protected final POST profiled(@NotNull Supplier<POST> registration) {
+        if (RegistrationCapture.enqueue(() -> this.profiledNow(registration))) {
+            this.captured = true;
+            return this.self();
+        }
+        return this.profiledNow(registration);
+    }
+
+    private POST profiledNow(Supplier<POST> registration) {
+        this.captured = false;
+        POST post = RegistrationProfiler.profileEntry(this.registryId(), this.id, registration);
+        RegisterSeal.track(this);
+        return post;
+    }
+
+    /**
+     * Queues a registration that does not go through {@link #register()}, such as a table
+     * registration, if the current thread is within a {@link RegistrationCapture}.
+     *
+     * @param registration the registration action
+     * @return true if the registration has been queued, false if the caller must perform it right away
+     */
+    protected static boolean capture(@NotNull Runnable registration) {
+        return RegistrationCapture.enqueue(registration);
+    }
+
+    /**
+     * Translations of a captured register are queued after its registration.
+     */
+    @Override
+    public POST translate(@NotNull MCLanguageOption lang, @NotNull String value) {
+        if (this.whenRegistered(() -> Translation.putTranslation(this.get(), lang, value))) {
+            return this.self();
+        }
+        return PostRegistrable.super.translate(lang, value);
+    }
+
+    /**
+     * Collections of a captured register are only filled once it has been registered.
+     */
+    @Override
+    public POST collectsTo(Collection<T> collection) {
+        if (this.whenRegistered(() -> collection.add(this.get()))) {
+            return this.self();
+        }
+        return PostRegistrable.super.collectsTo(collection);
+    }
+
+    private boolean whenRegistered(Runnable action) {
+        if (!this.captured) return false;
+        if (!RegistrationCapture.enqueue(action)) {
+            throw new IllegalStateException(
+                "Entry " + this.id + " is queued by another thread and cannot be configured from this one."
+            );
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private POST self() {
+        return (POST) this;
+    }
+
+    /**
+     * Releases the builder state of this register, which is no longer needed once the object
+     * has been registered. Invoked at most once, by {@link RegisterSeal#sealAll()}.
+     * <p>
+     * Implementations must keep everything the post-registration operations still rely on,
+     * and must not release state that is read later on, e.g. by the data generators.
+     */
+    protected void releaseBuilderState() {}
+
+    /**
+     * Returns whether this register has been sealed.
+     *
+     * @return {@code true} once {@link #releaseBuilderState()} has been invoked
+     */
+    public boolean isSealed() {
+        return sealed;
+    }
+
+    final synchronized boolean seal() {
+        if (this.sealed) return false;
+        this.releaseBuilderState();
+        this.sealed = true;
+        return true;
+    }
+
+    /**
+     * Returns the identifier of the registry this register registers into, as reported by
+     * {@link #profiled(Supplier)} and used to order {@link DeferredRegistry deferred} registrations.
+     *
+     * @return the registry identifier
+     */
+    protected @NotNull Identifier registryId() {
+        return this.getRegistryKey().getRegistry();
+    }
+
     /**
      * Returns the thing to be registered.
      * @return The thing to be registered
@@ -51,6 +205,15 @@ class Register<T, POST extends PostRegistrable<T, POST, R>, R extends Register<T
      */
     @Override
     public @NotNull T get() {
+        if (thing == null && this.captured) {
+            MOD_LOGGER.error(
+                "Entry {} was accessed before its captured registration has been committed.", this.id
+            );
+            throw new IllegalStateException(
+                "Entry " + this.id + " is registered by a parallel RegisterLamp and is only available once "
+                    + "RegisterLamp#registerAll has committed it; keep its register or registry key instead."
+            );
+        }
         if (thing == null) {
             MOD_LOGGER.error(
                 "The thing to be registered is null."
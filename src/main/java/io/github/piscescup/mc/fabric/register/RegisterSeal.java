@@ -0,0 +1,93 @@
+package io.github.piscescup.mc.fabric.register;
+
+import io.github.piscescup.mc.fabric.profiling.RegistrationProfiler;
+import io.github.piscescup.mc.fabric.profiling.SealReport;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+
+/**
+ * The seal phase of the registration workflow.
+ * <p>
+ * A {@link Register} keeps its builder state (settings, factories, collected entries, trades,
+ * tag contents...) after {@link Register#register()}, and registers usually stay reachable for
+ * the whole game through the holder classes and the lambdas capturing them. Every register is
+ * therefore tracked once registered, and {@link #sealAll()} releases the builder state of all of
+ * them, leaving only what the terminal operations ({@link Register#get()},
+ * {@link Register#getRegistryKey()}...) need.
+ * <p>
+ * {@link io.github.piscescup.mc.fabric.RegisterLamp RegisterLamp} seals automatically once
+ * every module is registered. Mods registering outside a lamp may call {@link #sealAll()}
+ * themselves at the end of their initialization.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+public final class RegisterSeal {
+    private static final Queue<Register<?, ?, ?>> REGISTERED = new ConcurrentLinkedQueue<>();
+
+    private RegisterSeal() {
+        MOD_LOGGER.error(
+            "Attempted to instantiate {}", RegisterSeal.class.getCanonicalName()
+        );
+        throw new UnsupportedOperationException();
+    }
+
+    static void track(@NotNull Register<?, ?, ?> register) {
+        REGISTERED.add(register);
+    }
+
+    /**
+     * Returns the number of registered, not yet sealed registers.
+     *
+     * @return the number of registers waiting to be sealed
+     */
+    public static int pendingCount() {
+        return REGISTERED.size();
+    }
+
+    /**
+     * Releases the builder state of every register registered since the previous seal.
+     * <p>
+     * When the {@link RegistrationProfiler} is enabled, the used heap is measured around the
+     * seal and the resulting {@link SealReport} is logged.
+     *
+     * @return the report of this seal
+     */
+    public static synchronized @NotNull SealReport sealAll() {
+        boolean measure = RegistrationProfiler.isEnabled();
+        long heapBefore = measure ? usedHeapAfterGc() : -1L;
+
+        Map<String, Integer> sealedByRegistry = new HashMap<>();
+        int sealed = 0;
+        long start = System.nanoTime();
+
+        Register<?, ?, ?> register;
+        while ((register = REGISTERED.poll()) != null) {
+            if (register.seal()) {
+                sealed++;
+                sealedByRegistry.merge(register.registryId().toString(), 1, Integer::sum);
+            }
+        }
+
+        long nanos = System.nanoTime() - start;
+        long heapAfter = measure ? usedHeapAfterGc() : -1L;
+
+        SealReport report = new SealReport(sealed, sealedByRegistry, nanos, heapBefore, heapAfter);
+        if (measure) {
+            MOD_LOGGER.info(report.format());
+        }
+        return report;
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.piscescup.mc.fabric.register;
+
+import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+
+/**
+ * Records the registrations performed by the current thread instead of applying them.
+ * <p>
+ * A {@link io.github.piscescup.mc.fabric.RegisterLamp RegisterLamp} constructing modules
+ * concurrently runs each construction within {@link #capture(Supplier)}: every
+ * {@link Register#register()} (and every table registration) made by the module is queued, and
+ * the lamp later {@link Captured#commit() commits} the queues of all modules on a single thread,
+ * in topological order. The registrations, and therefore the raw ids they are given, are then in
+ * the same order as with a sequential bootstrap, whatever the timing of the threads.
+ * <p>
+ * Until its registration is committed, the object of a captured register is not available:
+ * {@link Register#get()} throws, while the registry key and the post-registration operations
+ * queued on the register, such as translations, remain available.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+public final class RegistrationCapture {
+    private static final ThreadLocal<List<Runnable>> CURRENT = new ThreadLocal<>();
+
+    private RegistrationCapture() {
+        MOD_LOGGER.error(
+            "Attempted to instantiate {}", RegistrationCapture.class.getCanonicalName()
+        );
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * The result of an action run within {@link #capture(Supplier)}.
+     *
+     * @param value         the result of the action
+     * @param registrations the registrations queued by the action, in order
+     * @param <V>           the type of the result
+     */
+    public record Captured<V>(V value, List<Runnable> registrations) {
+        /**
+         * Applies the queued registrations, in order, on the current thread.
+         */
+        public void commit() {
+            this.registrations.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Runs an action, queuing every registration it performs on the current thread.
+     *
+     * @param action the action
+     * @param <V>    the type of the result
+     * @return the result of the action and its queued registrations
+     */
+    public static <V> @NotNull Captured<V> capture(@NotNull Supplier<V> action) {
+        NullCheck.requireNonNull(action);
+
+        List<Runnable> outer = CURRENT.get();
+        List<Runnable> registrations = new ArrayList<>();
+        CURRENT.set(registrations);
+        try {
+            V value = action.get();
+            return new Captured<>(value, List.copyOf(registrations));
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the registrations of the current thread are being captured.
+     *
+     * @return true within {@link #capture(Supplier)}
+     */
+    public static boolean isCapturing() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Queues a registration if the current thread is capturing.
+     *
+     * @param registration the registration
+     * @return true if the registration has been queued, false if it must be applied right away
+     */
+    static boolean enqueue(Runnable registration) {
+        List<Runnable> registrations = CURRENT.get();
+        if (registrations == null) return false;
+
+        registrations.add(registration);
+        return true;
+    }
+}
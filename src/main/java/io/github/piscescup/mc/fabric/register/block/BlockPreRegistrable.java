@@ -1,5 +1,7 @@
 package io.github.piscescup.mc.fabric.register.block;
 
+import io.github.piscescup.mc.fabric.register.DeferredHandle;
+import io.github.piscescup.mc.fabric.register.DeferredRegistry;
 import io.github.piscescup.mc.fabric.register.PreRegistrable;
 import net.minecraft.block.AbstractBlock;
 import net.minecraft.block.Block;
@@ -41,4 +43,13 @@ public interface BlockPreRegistrable extends PreRegistrable<BlockPostRegistrable
      * @throws NullPointerException if {@code factory} is null
      */
     BlockPreRegistrable factory(@NotNull Function<AbstractBlock.Settings, Block> factory);
+
+    /**
+     * Captures this configured registration without performing it; see {@link DeferredRegistry}.
+     *
+     * @return a handle resolving to the registered {@link Block} once the deferred batch is registered
+     */
+    default DeferredHandle<Block, BlockPostRegistrable> registerDeferred() {
+        return DeferredRegistry.defer(this);
+    }
 }
\ No newline at end of file
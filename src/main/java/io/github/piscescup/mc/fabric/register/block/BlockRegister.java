@@ -1,18 +1,30 @@
 package io.github.piscescup.mc.fabric.register.block;
 
+import io.github.piscescup.mc.fabric.profiling.RegistrationProfiler;
 import io.github.piscescup.mc.fabric.register.Register;
+import io.github.piscescup.mc.fabric.register.item.BlockItemRegister;
 import io.github.piscescup.mc.fabric.utils.CheckUtils;
 import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
 import net.minecraft.block.AbstractBlock;
 import net.minecraft.block.Block;
+import net.minecraft.item.Item;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryKeys;
 import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * The {@code BlockRegister} class is used to register blocks with specified settings
@@ -37,6 +49,17 @@ import java.util.function.Function;
  *     .translate(MCLanguage.ZH_CN, "PCDevLib 测试方块")
  *     .get();
  * }</pre>
+ *
+ * <p>Large sets of similar blocks can be registered in one pass with a {@link Table}:
+ * <pre>{@code
+ * Supplier<AbstractBlock.Settings> ore = () -> AbstractBlock.Settings.create().strength(3.0f).requiresTool();
+ *
+ * BlockRegister.Table.Result ores = BlockRegister.table(MOD_ID, 2)
+ *     .add("tin_ore", ore)
+ *     .add("silver_ore", ore, CustomOreBlock::new)
+ *     .withBlockItems()
+ *     .register();
+ * }</pre>
  * @author REN YuanTong
  * @since 1.0.0
  */
@@ -83,17 +106,32 @@ public class BlockRegister
         return new BlockRegister(id);
     }
 
+    /**
+     * Creates a new {@link Table} registering blocks under the given namespace in a single pass.
+     *
+     * @param namespace    the namespace of every block in the table; must not be null
+     * @param expectedSize the expected number of rows, used to pre-size the table
+     * @throws NullPointerException if {@code namespace} is null
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull Table table(@NotNull String namespace, int expectedSize) {
+        NullCheck.requireNonNull(namespace);
+        return new Table(namespace, expectedSize);
+    }
+
     @Override
     public BlockPostRegistrable register() {
-        Block block = this.factory.apply(this.settings.registryKey(this.registryKey));
+        return profiled(() -> {
+            Block block = this.factory.apply(this.settings.registryKey(this.registryKey));
 
-        this.thing = Registry.register(
-            Registries.BLOCK,
-            this.id,
-            block
-        );
+            this.thing = commit(() -> Registry.register(
+                Registries.BLOCK,
+                this.id,
+                block
+            ));
 
-        return this;
+            return this;
+        });
     }
 
     @Override
@@ -109,4 +147,165 @@ public class BlockRegister
         this.factory = factory;
         return this;
     }
+
+    /**
+     * Drops the settings and the factory, which are only needed to create the block.
+     */
+    @Override
+    protected void releaseBuilderState() {
+        this.settings = null;
+        this.factory = null;
+    }
+
+    /**
+     * A table of blocks registered together in one pass.
+     *
+     * <p>Each row only holds an identifier, a shared settings template and a shared factory, so
+     * a table of hundreds of variants allocates neither a builder nor a lambda chain per entry.
+     * {@link AbstractBlock.Settings} are mutable and carry the registry key of their block, so a
+     * template is invoked once per row to obtain that row's settings.
+     *
+     * <p>Optionally, a {@link net.minecraft.item.BlockItem BlockItem} is registered for every
+     * block of the table in the same pass, see {@link #withBlockItems(Supplier)}.
+     */
+    public static final class Table {
+        private record Row(
+            Identifier id,
+            Supplier<AbstractBlock.Settings> settings,
+            Function<AbstractBlock.Settings, Block> factory
+        ) {}
+
+        /**
+         * The blocks and block items registered by a table, keyed by identifier in row order.
+         *
+         * @param blocks the registered blocks
+         * @param items  the registered block items; empty unless {@link #withBlockItems(Supplier)} was used
+         */
+        public record Result(Map<Identifier, Block> blocks, Map<Identifier, Item> items) {}
+
+        private final String namespace;
+        private final List<Row> rows;
+        private @Nullable Supplier<Item.Settings> blockItemSettings;
+
+        private Table(String namespace, int expectedSize) {
+            this.namespace = namespace;
+            this.rows = new ArrayList<>(Math.max(expectedSize, 0));
+        }
+
+        /**
+         * Adds a row creating a plain {@link Block}.
+         *
+         * @param path     the path of the block; must not be null
+         * @param settings the settings template; must not be null
+         * @return this table for chaining
+         * @throws NullPointerException if {@code path} or {@code settings} is null
+         */
+        public Table add(@NotNull String path, @NotNull Supplier<AbstractBlock.Settings> settings) {
+            return this.add(path, settings, Block::new);
+        }
+
+        /**
+         * Adds a row creating a block with the given factory.
+         *
+         * @param path     the path of the block; must not be null
+         * @param settings the settings template; must not be null
+         * @param factory  the block factory; must not be null
+         * @return this table for chaining
+         * @throws NullPointerException if any argument is null
+         */
+        public Table add(
+            @NotNull String path,
+            @NotNull Supplier<AbstractBlock.Settings> settings,
+            @NotNull Function<AbstractBlock.Settings, Block> factory
+        ) {
+            NullCheck.requireNonNull(path);
+            NullCheck.requireNonNull(settings);
+            NullCheck.requireNonNull(factory);
+            this.rows.add(new Row(Identifier.of(this.namespace, path), settings, factory));
+            return this;
+        }
+
+        /**
+         * Adds one row per path, all sharing the same settings template and factory.
+         *
+         * @param paths    the paths of the blocks; must not contain null
+         * @param settings the settings template; must not be null
+         * @param factory  the block factory; must not be null
+         * @return this table for chaining
+         * @throws NullPointerException if any argument is or contains null
+         */
+        public Table addAll(
+            @NotNull Collection<String> paths,
+            @NotNull Supplier<AbstractBlock.Settings> settings,
+            @NotNull Function<AbstractBlock.Settings, Block> factory
+        ) {
+            NullCheck.requireAllNonNull(paths);
+            paths.forEach(path -> this.add(path, settings, factory));
+            return this;
+        }
+
+        /**
+         * Registers a {@link net.minecraft.item.BlockItem BlockItem} with default settings for every block of this table.
+         *
+         * @return this table for chaining
+         */
+        public Table withBlockItems() {
+            return this.withBlockItems(Item.Settings::new);
+        }
+
+        /**
+         * Registers a {@link net.minecraft.item.BlockItem BlockItem} for every block of this table,
+         * in the same pass as the blocks.
+         *
+         * @param settings the item settings template; must not be null
+         * @return this table for chaining
+         * @throws NullPointerException if {@code settings} is null
+         */
+        public Table withBlockItems(@NotNull Supplier<Item.Settings> settings) {
+            NullCheck.requireNonNull(settings);
+            this.blockItemSettings = settings;
+            return this;
+        }
+
+        /**
+         * Registers every row of this table, and their block items if requested. The blocks are
+         * created first, outside the registry lock, which is then held once to register them all.
+         * <p>
+         * Within a {@link io.github.piscescup.mc.fabric.register.RegistrationCapture RegistrationCapture},
+         * the registration is queued and the maps of the result stay empty until it is committed.
+         *
+         * @return the registered blocks and block items
+         */
+        public Result register() {
+            Map<Identifier, Block> blocks = LinkedHashMap.newLinkedHashMap(this.rows.size());
+            Map<Identifier, Item> items = LinkedHashMap.newLinkedHashMap(this.rows.size());
+            if (!capture(() -> this.registerInto(blocks, items))) {
+                this.registerInto(blocks, items);
+            }
+            return new Result(Collections.unmodifiableMap(blocks), Collections.unmodifiableMap(items));
+        }
+
+        private void registerInto(Map<Identifier, Block> blocks, Map<Identifier, Item> items) {
+            // The user factories and settings templates run outside the registry lock.
+            List<Block> created = new ArrayList<>(this.rows.size());
+            for (Row row : this.rows) {
+                RegistryKey<Block> key = RegistryKey.of(RegistryKeys.BLOCK, row.id());
+                created.add(RegistrationProfiler.profileEntry(RegistryKeys.BLOCK.getValue(), row.id(), () ->
+                    row.factory().apply(row.settings().get().registryKey(key))
+                ));
+            }
+
+            commit(() -> {
+                for (int i = 0; i < this.rows.size(); i++) {
+                    Identifier id = this.rows.get(i).id();
+                    blocks.put(id, Registry.register(Registries.BLOCK, RegistryKey.of(RegistryKeys.BLOCK, id), created.get(i)));
+                }
+                return null;
+            });
+
+            if (this.blockItemSettings != null) {
+                items.putAll(BlockItemRegister.registerAll(blocks.values(), this.blockItemSettings));
+            }
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package io.github.piscescup.mc.fabric.register.item;
 
+import io.github.piscescup.mc.fabric.register.DeferredHandle;
+import io.github.piscescup.mc.fabric.register.DeferredRegistry;
 import io.github.piscescup.mc.fabric.register.PreRegistrable;
 import net.minecraft.block.Block;
 import net.minecraft.item.Item;
@@ -33,4 +35,13 @@ public interface BlockItemPreRegistrable extends PreRegistrable<BlockItemPostReg
      * @throws NullPointerException If {@code factory} is null
      */
     BlockItemPreRegistrable factory(@NotNull BiFunction<Block, Item.Settings, Item> factory);
+
+    /**
+     * Captures this configured registration without performing it; see {@link DeferredRegistry}.
+     *
+     * @return a handle resolving to the registered {@link Item} once the deferred batch is registered
+     */
+    default DeferredHandle<Item, BlockItemPostRegistrable> registerDeferred() {
+        return DeferredRegistry.defer(this);
+    }
 }
@@ -1,5 +1,7 @@
 package io.github.piscescup.mc.fabric.register.item;
 
+import io.github.piscescup.mc.fabric.profiling.RegistrationProfiler;
+import io.github.piscescup.mc.fabric.register.DeferredHandle;
 import io.github.piscescup.mc.fabric.register.Register;
 import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
 import net.minecraft.block.Block;
@@ -13,7 +15,14 @@ import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /**
  * A register helper that constructs and registers an {@link Item} corresponding to a {@link Block}.
@@ -36,14 +45,13 @@ public class BlockItemRegister
     extends Register<Item, BlockItemPostRegistrable, BlockItemRegister>
     implements BlockItemPreRegistrable, BlockItemPostRegistrable
 {
-    private Block block;
+    private Supplier<Block> block;
 
     private Item.Settings settings = new Item.Settings();
 
     private BiFunction<Block, Item.Settings, Item> factory = BlockItem::new;
 
-    private BlockItemRegister(@NotNull Block block) {
-        Identifier id = block.getRegistryEntry().registryKey().getValue();
+    private BlockItemRegister(@NotNull Identifier id, @NotNull Supplier<Block> block) {
         super(RegistryKeys.ITEM, id);
         this.block = block;
     }
@@ -57,7 +65,23 @@ public class BlockItemRegister
     @Contract("_ -> new")
     public static @NotNull BlockItemPreRegistrable createFor(@NotNull Block block) {
         NullCheck.requireNonNull(block);
-        return new BlockItemRegister(block);
+        Identifier id = block.getRegistryEntry().registryKey().getValue();
+        return new BlockItemRegister(id, () -> block);
+    }
+
+    /**
+     * Create a new pre-registrable builder for a {@link Block} whose registration is deferred.
+     *
+     * <p>The block is only resolved when this item is registered, so the returned builder is
+     * typically deferred as well; the deferred batch always registers blocks before items.
+     *
+     * @param block The deferred block to create an item for; must not be null.
+     * @throws NullPointerException if {@code block} is null
+     */
+    @Contract("_ -> new")
+    public static @NotNull BlockItemPreRegistrable createFor(@NotNull DeferredHandle<Block, ?> block) {
+        NullCheck.requireNonNull(block);
+        return new BlockItemRegister(block.getId(), block);
     }
 
     /**
@@ -96,21 +120,115 @@ public class BlockItemRegister
      */
     @Override
     public BlockItemPostRegistrable register() {
-        this.settings
-            .useBlockPrefixedTranslationKey()
-            .registryKey(this.registryKey);
+        return profiled(() -> {
+            this.settings
+                .useBlockPrefixedTranslationKey()
+                .registryKey(this.registryKey);
 
-        Item item = this.factory.apply(this.block, settings);
+            Item item = this.factory.apply(this.block.get(), settings);
 
-        if  (item instanceof BlockItem blockItem)
-            blockItem.appendBlocks(Item.BLOCK_ITEMS, item);
+            this.thing = commit(() -> {
+                if  (item instanceof BlockItem blockItem)
+                    blockItem.appendBlocks(Item.BLOCK_ITEMS, item);
 
-        this.thing = Registry.register(
-            Registries.ITEM,
-            this.registryKey,
-            item
-        );
+                return Registry.register(
+                    Registries.ITEM,
+                    this.registryKey,
+                    item
+                );
+            });
 
-        return this;
+            return this;
+        });
+    }
+
+    /**
+     * Drops the block supplier, the settings and the factory, which are only needed to create the item.
+     */
+    @Override
+    protected void releaseBuilderState() {
+        this.block = null;
+        this.settings = null;
+        this.factory = null;
+    }
+
+    /**
+     * Registers a {@link BlockItem} for every given block in a single pass.
+     *
+     * @param blocks   The blocks to create items for; must not contain null.
+     * @param settings The settings template, invoked once per item; must not be null.
+     * @return the registered items keyed by identifier, in the iteration order of {@code blocks}
+     * @throws NullPointerException If {@code blocks} contains null or {@code settings} is null.
+     * @see #registerAll(Collection, Supplier, BiFunction)
+     */
+    public static @NotNull Map<Identifier, Item> registerAll(
+        @NotNull Collection<Block> blocks,
+        @NotNull Supplier<Item.Settings> settings
+    ) {
+        return registerAll(blocks, settings, BlockItem::new);
+    }
+
+    /**
+     * Registers an item for every given block in a single pass, sharing one settings template
+     * and one factory across the whole batch.
+     *
+     * <p>Unlike {@link #createFor(Block)}, no builder is allocated per entry, and the registry
+     * lock is acquired once for the whole batch, after every item has been created.
+     * {@link Item.Settings} are mutable and carry the registry key of their item, so
+     * {@code settings} is invoked once per item.
+     * <p>
+     * Within a {@link io.github.piscescup.mc.fabric.register.RegistrationCapture RegistrationCapture},
+     * the registration is queued and the returned map stays empty until it is committed; the
+     * blocks are only read then, so they may be the live result of a captured block table.
+     *
+     * @param blocks   The blocks to create items for; must not contain null.
+     * @param settings The settings template, invoked once per item; must not be null.
+     * @param factory  The item factory shared by the batch; must not be null.
+     * @return the registered items keyed by identifier, in the iteration order of {@code blocks}
+     * @throws NullPointerException If {@code blocks} contains null, or {@code settings} or {@code factory} is null.
+     */
+    public static @NotNull Map<Identifier, Item> registerAll(
+        @NotNull Collection<Block> blocks,
+        @NotNull Supplier<Item.Settings> settings,
+        @NotNull BiFunction<Block, Item.Settings, Item> factory
+    ) {
+        NullCheck.requireAllNonNull(blocks);
+        NullCheck.requireNonNull(settings);
+        NullCheck.requireNonNull(factory);
+
+        Map<Identifier, Item> items = LinkedHashMap.newLinkedHashMap(blocks.size());
+        if (!capture(() -> registerInto(blocks, settings, factory, items))) {
+            registerInto(blocks, settings, factory, items);
+        }
+        return Collections.unmodifiableMap(items);
+    }
+
+    private static void registerInto(
+        Collection<Block> blocks,
+        Supplier<Item.Settings> settings,
+        BiFunction<Block, Item.Settings, Item> factory,
+        Map<Identifier, Item> items
+    ) {
+        // The factory and the settings template run outside the registry lock.
+        List<Identifier> ids = new ArrayList<>(blocks.size());
+        List<Item> created = new ArrayList<>(blocks.size());
+        for (Block block : blocks) {
+            Identifier id = block.getRegistryEntry().registryKey().getValue();
+            RegistryKey<Item> key = RegistryKey.of(RegistryKeys.ITEM, id);
+            ids.add(id);
+            created.add(RegistrationProfiler.profileEntry(RegistryKeys.ITEM.getValue(), id, () ->
+                factory.apply(block, settings.get().useBlockPrefixedTranslationKey().registryKey(key))
+            ));
+        }
+
+        commit(() -> {
+            for (int i = 0; i < ids.size(); i++) {
+                Item item = created.get(i);
+                if (item instanceof BlockItem blockItem)
+                    blockItem.appendBlocks(Item.BLOCK_ITEMS, item);
+                items.put(ids.get(i), Registry.register(Registries.ITEM, RegistryKey.of(RegistryKeys.ITEM, ids.get(i)), item));
+            }
+            return null;
+        });
     }
 }
\ No newline at end of file
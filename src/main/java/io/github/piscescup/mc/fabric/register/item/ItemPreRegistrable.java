@@ -1,5 +1,7 @@
 package io.github.piscescup.mc.fabric.register.item;
 
+import io.github.piscescup.mc.fabric.register.DeferredHandle;
+import io.github.piscescup.mc.fabric.register.DeferredRegistry;
 import io.github.piscescup.mc.fabric.register.PreRegistrable;
 import net.minecraft.item.Item;
 import org.jetbrains.annotations.NotNull;
@@ -40,4 +42,12 @@ public interface ItemPreRegistrable
      */
     ItemPreRegistrable factory(@NotNull Function<Item.Settings, Item> factory);
 
+    /**
+     * Captures this configured registration without performing it; see {@link DeferredRegistry}.
+     *
+     * @return a handle resolving to the registered {@link Item} once the deferred batch is registered
+     */
+    default DeferredHandle<Item, ItemPostRegistrable> registerDeferred() {
+        return DeferredRegistry.defer(this);
+    }
 }
@@ -1,5 +1,6 @@
 package io.github.piscescup.mc.fabric.register.item;
 
+import io.github.piscescup.mc.fabric.profiling.RegistrationProfiler;
 import io.github.piscescup.mc.fabric.register.Register;
 import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
 import net.minecraft.item.BlockItem;
@@ -12,7 +13,14 @@ import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * The {@code ItemRegister} class is used to register items with specified settings
@@ -36,6 +44,13 @@ import java.util.function.Function;
  *         .translate(MCLanguage.ZH_CN, "PCDevLib 测试物品 1")
  *         .get();
  * }</pre>
+ *
+ * <p>Large sets of similar items can be registered in one pass with a {@link Table}:
+ * <pre>{@code
+ * Map<Identifier, Item> ingots = ItemRegister.table(MOD_ID, 3)
+ *     .addAll(List.of("tin_ingot", "silver_ingot", "lead_ingot"), Item.Settings::new, Item::new)
+ *     .register();
+ * }</pre>
  * @author REN YuanTong
  * @since 1.0.0
  */
@@ -81,6 +96,19 @@ public class ItemRegister
         return new ItemRegister(Identifier.of(namespace, path));
     }
 
+    /**
+     * Creates a new {@link Table} registering items under the given namespace in a single pass.
+     *
+     * @param namespace    The namespace of every item in the table.
+     * @param expectedSize The expected number of rows, used to pre-size the table.
+     * @return A new, empty {@link Table}.
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull Table table(@NotNull String namespace, int expectedSize) {
+        NullCheck.requireNonNull(namespace);
+        return new Table(namespace, expectedSize);
+    }
+
     /**
      * Sets the settings for the item being registered. The settings provide configuration options
      * for the item, such as its attributes and behavior.
@@ -118,16 +146,138 @@ public class ItemRegister
      */
     @Override
     public ItemPostRegistrable register() {
-        Item item = factory.apply(settings.registryKey(this.registryKey));
+        return profiled(() -> {
+            Item item = factory.apply(settings.registryKey(this.registryKey));
+
+            this.thing = commit(() -> {
+                // If the item is a BlockItem, append it to the block items registry.
+                if (item instanceof BlockItem blockItem) {
+                    blockItem.appendBlocks(Item.BLOCK_ITEMS, item);
+                }
+
+                // Register the item with the registry.
+                return Registry.register(Registries.ITEM, this.id, item);
+            });
+
+            return this;
+        });
+    }
+
+    /**
+     * Drops the settings and the factory, which are only needed to create the item.
+     */
+    @Override
+    protected void releaseBuilderState() {
+        this.settings = null;
+        this.factory = null;
+    }
 
-        // If the item is a BlockItem, append it to the block items registry.
-        if (item instanceof BlockItem blockItem) {
-            blockItem.appendBlocks(Item.BLOCK_ITEMS, item);
+    /**
+     * A table of items registered together in one pass.
+     *
+     * <p>Each row only holds an identifier, a shared settings template and a shared factory, so
+     * no builder is allocated per entry and the registry lock is acquired once for the whole
+     * table, around the registrations only. {@link Item.Settings} are mutable and carry the
+     * registry key of their item, so a template is invoked once per row to obtain that row's
+     * settings.
+     */
+    public static final class Table {
+        private record Row(Identifier id, Supplier<Item.Settings> settings, Function<Item.Settings, Item> factory) {}
+
+        private final String namespace;
+        private final List<Row> rows;
+
+        private Table(String namespace, int expectedSize) {
+            this.namespace = namespace;
+            this.rows = new ArrayList<>(Math.max(expectedSize, 0));
         }
 
-        // Register the item with the registry.
-        this.thing = Registry.register(Registries.ITEM, this.id, item);
+        /**
+         * Adds a row creating a plain {@link Item}.
+         *
+         * @param path     The path of the item.
+         * @param settings The settings template.
+         * @return This table for chaining.
+         */
+        public Table add(@NotNull String path, @NotNull Supplier<Item.Settings> settings) {
+            return this.add(path, settings, Item::new);
+        }
 
-        return this;
+        /**
+         * Adds a row creating an item with the given factory.
+         *
+         * @param path     The path of the item.
+         * @param settings The settings template.
+         * @param factory  The item factory.
+         * @return This table for chaining.
+         */
+        public Table add(
+            @NotNull String path,
+            @NotNull Supplier<Item.Settings> settings,
+            @NotNull Function<Item.Settings, Item> factory
+        ) {
+            NullCheck.requireNonNull(path);
+            NullCheck.requireNonNull(settings);
+            NullCheck.requireNonNull(factory);
+            this.rows.add(new Row(Identifier.of(this.namespace, path), settings, factory));
+            return this;
+        }
+
+        /**
+         * Adds one row per path, all sharing the same settings template and factory.
+         *
+         * @param paths    The paths of the items.
+         * @param settings The settings template.
+         * @param factory  The item factory.
+         * @return This table for chaining.
+         */
+        public Table addAll(
+            @NotNull Collection<String> paths,
+            @NotNull Supplier<Item.Settings> settings,
+            @NotNull Function<Item.Settings, Item> factory
+        ) {
+            NullCheck.requireAllNonNull(paths);
+            paths.forEach(path -> this.add(path, settings, factory));
+            return this;
+        }
+
+        /**
+         * Registers every row of this table. The items are created first, outside the registry
+         * lock, which is then held once to register them all.
+         * <p>
+         * Within a {@link io.github.piscescup.mc.fabric.register.RegistrationCapture RegistrationCapture},
+         * the registration is queued and the returned map stays empty until it is committed.
+         *
+         * @return The registered items keyed by identifier, in row order.
+         */
+        public Map<Identifier, Item> register() {
+            Map<Identifier, Item> items = LinkedHashMap.newLinkedHashMap(this.rows.size());
+            if (!capture(() -> this.registerInto(items))) {
+                this.registerInto(items);
+            }
+            return Collections.unmodifiableMap(items);
+        }
+
+        private void registerInto(Map<Identifier, Item> items) {
+            // The user factories and settings templates run outside the registry lock.
+            List<Item> created = new ArrayList<>(this.rows.size());
+            for (Row row : this.rows) {
+                RegistryKey<Item> key = RegistryKey.of(RegistryKeys.ITEM, row.id());
+                created.add(RegistrationProfiler.profileEntry(RegistryKeys.ITEM.getValue(), row.id(), () ->
+                    row.factory().apply(row.settings().get().registryKey(key))
+                ));
+            }
+
+            commit(() -> {
+                for (int i = 0; i < this.rows.size(); i++) {
+                    Identifier id = this.rows.get(i).id();
+                    Item item = created.get(i);
+                    if (item instanceof BlockItem blockItem)
+                        blockItem.appendBlocks(Item.BLOCK_ITEMS, item);
+                    items.put(id, Registry.register(Registries.ITEM, RegistryKey.of(RegistryKeys.ITEM, id), item));
+                }
+                return null;
+            });
+        }
     }
 }
@@ -1,17 +1,22 @@
 package io.github.piscescup.mc.fabric.register.itemgroup;
 
+import io.github.piscescup.mc.fabric.register.DeferredHandle;
+import io.github.piscescup.mc.fabric.register.DeferredRegistry;
 import io.github.piscescup.mc.fabric.register.PreRegistrable;
 import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemConvertible;
 import net.minecraft.item.ItemGroup;
 import net.minecraft.item.ItemStack;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
 import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -281,7 +286,7 @@ public interface ItemGroupPreRegistrable
                 .map(ItemStack::new)
                 .toList();
 
-            return this.addStackEntries(stacks, ItemGroup.StackVisibility.PARENT_AND_SEARCH_TABS);
+            return this.addStackEntries(stacks, visibility);
         }
 
         /**
@@ -316,7 +321,7 @@ public interface ItemGroupPreRegistrable
                 .map(ItemStack::new)
                 .toList();
 
-            return this.addStackEntries(stacks, ItemGroup.StackVisibility.PARENT_AND_SEARCH_TABS);
+            return this.addStackEntries(stacks, visibility);
         }
 
         /**
@@ -329,6 +334,63 @@ public interface ItemGroupPreRegistrable
             return this.addItemEntries(items, ItemGroup.StackVisibility.PARENT_AND_SEARCH_TABS);
         }
 
+        /**
+         * Adds every item of a tag, resolved when the item group is displayed.
+         * <p>
+         * The tag is resolved against the registries of the display context on the first display,
+         * and again after every tag reload; no stack is created when the item group is built.
+         *
+         * @param tag         the item tag
+         * @param visibility  stack visibility
+         * @return this stage for chaining
+         */
+        default EntryCollectStage addTagEntries(@NotNull TagKey<Item> tag, ItemGroup.StackVisibility visibility) {
+            NullCheck.requireNonNull(tag);
+            NullCheck.requireNonNull(visibility);
+            return this.collectBy(LazyItemEntries.ofTag(tag, visibility));
+        }
+
+        /**
+         * Adds every item of a tag with default visibility, resolved when the item group is displayed.
+         *
+         * @param tag the item tag
+         * @return this stage for chaining
+         */
+        default EntryCollectStage addTagEntries(@NotNull TagKey<Item> tag) {
+            return this.addTagEntries(tag, ItemGroup.StackVisibility.PARENT_AND_SEARCH_TABS);
+        }
+
+        /**
+         * Adds every item whose registry entry matches the predicate, resolved when the item group
+         * is displayed.
+         * <p>
+         * The item registry is scanned on the first display, and again after every tag reload,
+         * so the predicate may test the tags of the entries.
+         *
+         * @param predicate   the predicate selecting the item registry entries
+         * @param visibility  stack visibility
+         * @return this stage for chaining
+         */
+        default EntryCollectStage addMatchingEntries(
+            @NotNull Predicate<RegistryEntry.Reference<Item>> predicate,
+            ItemGroup.StackVisibility visibility
+        ) {
+            NullCheck.requireNonNull(predicate);
+            NullCheck.requireNonNull(visibility);
+            return this.collectBy(LazyItemEntries.ofMatching(predicate, visibility));
+        }
+
+        /**
+         * Adds every item whose registry entry matches the predicate with default visibility,
+         * resolved when the item group is displayed.
+         *
+         * @param predicate the predicate selecting the item registry entries
+         * @return this stage for chaining
+         */
+        default EntryCollectStage addMatchingEntries(@NotNull Predicate<RegistryEntry.Reference<Item>> predicate) {
+            return this.addMatchingEntries(predicate, ItemGroup.StackVisibility.PARENT_AND_SEARCH_TABS);
+        }
+
         /**
          * Collects entries using a raw {@link ItemGroup.EntryCollector}.
          *
@@ -346,5 +408,14 @@ public interface ItemGroupPreRegistrable
         EntryCollectStage collectByContext(
             @NotNull Consumer<ItemGroup.DisplayContext> action
         );
+
+        /**
+         * Captures this configured registration without performing it; see {@link DeferredRegistry}.
+         *
+         * @return a handle resolving to the registered {@link ItemGroup} once the deferred batch is registered
+         */
+        default DeferredHandle<ItemGroup, ItemGroupPostRegistrable> registerDeferred() {
+            return DeferredRegistry.defer(this);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package io.github.piscescup.mc.fabric.register.itemgroup;
 
+import com.google.common.collect.ImmutableMap;
 import io.github.piscescup.mc.fabric.register.Register;
 import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
 import io.github.piscescup.mc.fabric.utils.ItemGroupCollectorUtils;
@@ -44,8 +45,8 @@ public class ItemGroupRegister
     private Identifier texture;
 
     private ItemGroup.EntryCollector entryCollector = ENTRY_COLLECTOR;
-    private final Map<ItemStack, ItemGroup.StackVisibility> entries;
-    private final List<Consumer<ItemGroup.DisplayContext>> entryContextCollectors;
+    private Map<ItemStack, ItemGroup.StackVisibility> entries;
+    private List<Consumer<ItemGroup.DisplayContext>> entryContextCollectors;
 
     private ItemGroupRegister(Identifier id) {
         super(RegistryKeys.ITEM_GROUP, id);
@@ -65,35 +66,51 @@ public class ItemGroupRegister
 
     @Override
     public ItemGroupPostRegistrable register() {
-        String translationKey = Util.createTranslationKey("itemGroups", this.id);
+        return profiled(() -> {
+            String translationKey = Util.createTranslationKey("itemGroups", this.id);
 
-        ItemGroup.Builder builder = ItemGroup.create(this.row, this.column)
-            .displayName(Text.translatable(translationKey))
-            .icon(this.iconSupplier)
-            .texture(this.texture);
+            ItemGroup.Builder builder = ItemGroup.create(this.row, this.column)
+                .displayName(Text.translatable(translationKey))
+                .icon(this.iconSupplier)
+                .texture(this.texture);
 
-        if (this.special) builder.special();
-        if (!this.scrollbar) builder.noScrollbar();
-        if (!this.renderName) builder.noRenderedName();
+            if (this.special) builder.special();
+            if (!this.scrollbar) builder.noScrollbar();
+            if (!this.renderName) builder.noRenderedName();
 
-        ItemGroup.EntryCollector collectorByContext =
-            ItemGroupCollectorUtils.scheduleContextToCollectors(this.entryContextCollectors);
+            ItemGroup.EntryCollector collectorByContext =
+                ItemGroupCollectorUtils.scheduleContextToCollectors(this.entryContextCollectors);
 
-        ItemGroup.EntryCollector finalCollector =
-            ItemGroupCollectorUtils.andThen(this.entryCollector, collectorByContext);
+            ItemGroup.EntryCollector finalCollector =
+                ItemGroupCollectorUtils.andThen(this.entryCollector, collectorByContext);
 
-        ItemGroup group = builder.entries((displayContext, entries) -> {
-                this.entries.forEach(entries::add);
-                finalCollector.accept(displayContext, entries);
-            }).build();
+            // Captures an immutable copy rather than this register, so that sealing it releases the builder maps.
+            Map<ItemStack, ItemGroup.StackVisibility> staticEntries = ImmutableMap.copyOf(this.entries);
 
-        this.thing = Registry.register(
-            Registries.ITEM_GROUP,
-            this.id,
-            group
-        );
+            ItemGroup group = builder.entries((displayContext, entries) -> {
+                    staticEntries.forEach(entries::add);
+                    finalCollector.accept(displayContext, entries);
+                }).build();
 
-        return this;
+            this.thing = commit(() -> Registry.register(
+                Registries.ITEM_GROUP,
+                this.id,
+                group
+            ));
+
+            return this;
+        });
+    }
+
+    /**
+     * Drops the collected entries and collectors, which have been compiled into the entry
+     * collector of the registered {@link ItemGroup}.
+     */
+    @Override
+    protected void releaseBuilderState() {
+        this.entries = Map.of();
+        this.entryContextCollectors = List.of();
+        this.entryCollector = ENTRY_COLLECTOR;
     }
 
     @Override
@@ -0,0 +1,93 @@
+package io.github.piscescup.mc.fabric.register.itemgroup;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemGroup;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.entry.RegistryEntryList;
+import net.minecraft.registry.tag.TagKey;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Entry collector adding the items of a tag, or of the item registry entries matching a
+ * predicate, resolved when the item group is displayed.
+ * <p>
+ * Nothing is resolved when the item group is built. The matching items are resolved on the
+ * first display, and memoized until the tags are reloaded or the registries change; only the
+ * items are kept, the stacks are created while collecting. The registries are only referenced
+ * weakly, so that the memoized items never keep the registries of a left world reachable.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+final class LazyItemEntries implements ItemGroup.EntryCollector {
+    private static final AtomicInteger TAG_GENERATION = new AtomicInteger();
+
+    static {
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> TAG_GENERATION.incrementAndGet());
+    }
+
+    private final Function<RegistryWrapper.Impl<Item>, Stream<RegistryEntry<Item>>> source;
+    private final ItemGroup.StackVisibility visibility;
+    private volatile Resolved resolved;
+
+    /**
+     * The items resolved for a registry lookup and a tag generation.
+     */
+    private record Resolved(int generation, WeakReference<RegistryWrapper.WrapperLookup> lookup, Item[] items) {
+        boolean matches(int generation, RegistryWrapper.WrapperLookup lookup) {
+            return this.generation == generation && this.lookup.get() == lookup;
+        }
+    }
+
+    private LazyItemEntries(
+        Function<RegistryWrapper.Impl<Item>, Stream<RegistryEntry<Item>>> source,
+        ItemGroup.StackVisibility visibility
+    ) {
+        this.source = source;
+        this.visibility = visibility;
+    }
+
+    static LazyItemEntries ofTag(TagKey<Item> tag, ItemGroup.StackVisibility visibility) {
+        return new LazyItemEntries(
+            items -> items.getOptional(tag).stream().flatMap(RegistryEntryList::stream),
+            visibility
+        );
+    }
+
+    static LazyItemEntries ofMatching(Predicate<RegistryEntry.Reference<Item>> predicate, ItemGroup.StackVisibility visibility) {
+        return new LazyItemEntries(
+            items -> items.streamEntries().filter(predicate).<RegistryEntry<Item>>map(entry -> entry),
+            visibility
+        );
+    }
+
+    @Override
+    public void accept(ItemGroup.DisplayContext displayContext, ItemGroup.Entries entries) {
+        int generation = TAG_GENERATION.get();
+        RegistryWrapper.WrapperLookup lookup = displayContext.lookup();
+        Resolved resolved = this.resolved;
+        if (resolved == null || !resolved.matches(generation, lookup)) {
+            Item[] items = this.source.apply(lookup.getOrThrow(RegistryKeys.ITEM))
+                .map(RegistryEntry::value)
+                .filter(item -> item != Items.AIR)
+                .distinct()
+                .toArray(Item[]::new);
+            resolved = new Resolved(generation, new WeakReference<>(lookup), items);
+            this.resolved = resolved;
+        }
+
+        for (Item item : resolved.items()) {
+            entries.add(new ItemStack(item), this.visibility);
+        }
+    }
+}
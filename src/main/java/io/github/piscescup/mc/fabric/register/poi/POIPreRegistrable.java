@@ -2,7 +2,10 @@ package io.github.piscescup.mc.fabric.register.poi;
 
 
 import com.google.common.collect.ImmutableSet;
+import io.github.piscescup.mc.fabric.register.DeferredHandle;
+import io.github.piscescup.mc.fabric.register.DeferredRegistry;
 import io.github.piscescup.mc.fabric.register.PreRegistrable;
+import io.github.piscescup.mc.fabric.utils.CheckUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.world.poi.PointOfInterestType;
@@ -26,6 +29,15 @@ import java.util.Set;
  */
 public interface POIPreRegistrable extends PreRegistrable<POIPostRegistrable> {
 
+    /**
+     * Captures this configured registration without performing it; see {@link DeferredRegistry}.
+     *
+     * @return a handle resolving to the registered {@link PointOfInterestType} once the deferred batch is registered
+     */
+    default DeferredHandle<PointOfInterestType, POIPostRegistrable> registerDeferred() {
+        return DeferredRegistry.defer(this);
+    }
+
     /**
      * A stage for configuring a Point of Interest (POI) before it is registered.
      * <p>This configuration defines the physical blocks that constitute the POI and
@@ -77,6 +89,18 @@ public interface POIPreRegistrable extends PreRegistrable<POIPostRegistrable> {
             return config(getStatesOfBlock(block), 1, 1);
         }
 
+        /**
+         * Configures the POI using every state of the given blocks.
+         *
+         * @param ticketCount    The maximum occupancy for this POI
+         * @param searchDistance The search radius for this POI
+         * @param blocks         The {@link Block}s defining the POI; must not be null
+         * @return A configured instance of {@link POIPreRegistrable}
+         */
+        default POIPreRegistrable config(int ticketCount, int searchDistance, @NotNull Block... blocks) {
+            return config(getStatesOfBlocks(blocks), ticketCount, searchDistance);
+        }
+
         /**
          * Internal helper to retrieve all possible states for a specific block.
          *
@@ -86,5 +110,20 @@ public interface POIPreRegistrable extends PreRegistrable<POIPostRegistrable> {
         private static Set<BlockState> getStatesOfBlock(Block block) {
             return ImmutableSet.copyOf(block.getStateManager().getStates());
         }
+
+        /**
+         * Internal helper to retrieve all possible states for several blocks.
+         *
+         * @param blocks The blocks to query
+         * @return An immutable set of all valid {@link BlockState}s for the blocks
+         */
+        private static Set<BlockState> getStatesOfBlocks(Block... blocks) {
+            CheckUtils.NullCheck.requireAllNonNull(blocks);
+            ImmutableSet.Builder<BlockState> states = ImmutableSet.builder();
+            for (Block block : blocks) {
+                states.addAll(block.getStateManager().getStates());
+            }
+            return states.build();
+        }
     }
 }
\ No newline at end of file
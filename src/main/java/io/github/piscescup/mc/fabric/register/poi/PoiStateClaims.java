@@ -0,0 +1,85 @@
+package io.github.piscescup.mc.fabric.register.poi;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.poi.PointOfInterestTypes;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+
+/**
+ * The block states claimed by the points of interest registered through
+ * {@link PointOfInterestRegister}, indexed by state identity.
+ *
+ * <p>A block state may only belong to one point of interest, and the game crashes on the first
+ * state claimed twice. Each registration is checked here beforehand, in time linear in the number
+ * of claimed states: the owner of a state is looked up in an identity map, then, for the states
+ * claimed outside this library, in the state map of {@link PointOfInterestTypes}. Every conflict
+ * of the registration is reported at once.
+ *
+ * <p>Block states are shared instances, so they are keyed by identity rather than by raw state id,
+ * which registry sync remaps when joining a server.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+final class PoiStateClaims {
+    private static final Map<BlockState, Identifier> OWNERS = new IdentityHashMap<>();
+
+    private PoiStateClaims() {
+        MOD_LOGGER.error(
+            "Attempted to instantiate {}", PoiStateClaims.class.getCanonicalName()
+        );
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Claims the given states for a point of interest.
+     *
+     * @param id     the id of the point of interest
+     * @param states the claimed states
+     * @throws IllegalStateException if any of the states is already claimed, listing every conflict
+     */
+    static synchronized void claim(Identifier id, Set<BlockState> states) {
+        Map<Identifier, List<BlockState>> conflicts = new LinkedHashMap<>();
+        for (BlockState state : states) {
+            Identifier owner = owner(state);
+            if (owner != null) {
+                conflicts.computeIfAbsent(owner, key -> new ArrayList<>()).add(state);
+            }
+        }
+
+        if (!conflicts.isEmpty()) {
+            StringJoiner joiner = new StringJoiner("; ");
+            conflicts.forEach((owner, claimed) -> joiner.add(
+                claimed.size() + " states already claimed by " + owner + " (e.g. " + claimed.getFirst() + ")"
+            ));
+            MOD_LOGGER.error("Point of interest {} overlaps other points of interest: {}", id, joiner);
+            throw new IllegalStateException(
+                "Point of interest " + id + " claims block states of other points of interest: " + joiner
+            );
+        }
+
+        for (BlockState state : states) {
+            OWNERS.put(state, id);
+        }
+    }
+
+    private static Identifier owner(BlockState state) {
+        Identifier owner = OWNERS.get(state);
+        if (owner != null) return owner;
+        return PointOfInterestTypes.getTypeForState(state)
+            .flatMap(RegistryEntry::getKey)
+            .map(RegistryKey::getValue)
+            .orElse(null);
+    }
+}
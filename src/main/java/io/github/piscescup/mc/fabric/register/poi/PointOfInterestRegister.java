@@ -28,6 +28,12 @@ import java.util.Set;
  *         .config(Blocks.STRIPPED_SPRUCE_LOG)
  *         .register()
  *         .getRegistryKey();
+ *
+ * // Registering a POI claiming every state of several blocks
+ * public static final RegistryKey<PointOfInterestType> TEST_MULTI_BLOCK_POI = PointOfInterestRegister.createFor(MOD_ID, "test_multi_block_poi")
+ *         .config(1, 1, Blocks.LECTERN, Blocks.BARREL)
+ *         .register()
+ *         .getRegistryKey();
  * }</pre>
  *
  * @author REN YuanTong
@@ -102,12 +108,28 @@ public class PointOfInterestRegister
     /**
      * Finalizes the configuration and registers the {@link PointOfInterestType} into
      * the Minecraft registry.
+     * <p>The block states are first checked against the states of every point of interest already
+     * registered, and every overlap is reported at once rather than crashing on the first one.
      * * @return The register instance as a post-registrable handler
+     * @throws IllegalStateException if some of the block states already belong to another point of interest
      */
     @Override
     public POIPostRegistrable register() {
-        // Logic to instantiate and register the POI
-        this.thing = PointOfInterestHelper.register(this.id, this.ticketCount, this.searchDistance, this.blockStates);
-        return this;
+        return profiled(() -> {
+            // Logic to instantiate and register the POI
+            this.thing = commit(() -> {
+                PoiStateClaims.claim(this.id, this.blockStates);
+                return PointOfInterestHelper.register(this.id, this.ticketCount, this.searchDistance, this.blockStates);
+            });
+            return this;
+        });
+    }
+
+    /**
+     * Drops the block states, which are held by the registered {@link PointOfInterestType} itself.
+     */
+    @Override
+    protected void releaseBuilderState() {
+        this.blockStates = null;
     }
 }
\ No newline at end of file
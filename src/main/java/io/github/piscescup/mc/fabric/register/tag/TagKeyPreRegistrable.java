@@ -1,15 +1,19 @@
 package io.github.piscescup.mc.fabric.register.tag;
 
+import io.github.piscescup.mc.fabric.register.DeferredHandle;
+import io.github.piscescup.mc.fabric.register.DeferredRegistry;
 import io.github.piscescup.mc.fabric.register.PreRegistrable;
 import net.minecraft.registry.DefaultedRegistry;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.registry.tag.TagKey;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 
@@ -136,4 +140,37 @@ public interface TagKeyPreRegistrable<T> extends PreRegistrable<TagKeyPostRegist
      * @return this builder instance for fluent chaining
      */
     TagKeyPreRegistrable<T> add(Function<RegistryWrapper.WrapperLookup, Stream<T>> mappingFunction);
+
+    /**
+     * Adds every entry of the target registry matching the given predicate.
+     *
+     * <p>Unlike {@link #add(Function)}, the predicate does not scan the registry itself: the data
+     * generator scans each registry once and tests the predicates of every tag on each entry, so
+     * this should be preferred for tags derived from a filter over the whole registry.
+     *
+     * @param predicate the predicate selecting the registry entries to add
+     * @return this builder instance for fluent chaining
+     */
+    TagKeyPreRegistrable<T> addMatching(@NotNull Predicate<RegistryEntry.Reference<T>> predicate);
+
+    /**
+     * Adds every element of the target registry matching the given predicate.
+     *
+     * <p>This default implementation delegates to {@link #addMatching(Predicate)}.
+     *
+     * @param predicate the predicate selecting the elements to add
+     * @return this builder instance for fluent chaining
+     */
+    default TagKeyPreRegistrable<T> addMatchingValues(@NotNull Predicate<? super T> predicate) {
+        return this.addMatching(entry -> predicate.test(entry.value()));
+    }
+
+    /**
+     * Captures this configured registration without performing it; see {@link DeferredRegistry}.
+     *
+     * @return a handle resolving to the registered {@link TagKey} once the deferred batch is registered
+     */
+    default DeferredHandle<TagKey<T>, TagKeyPostRegistrable<T>> registerDeferred() {
+        return DeferredRegistry.defer(this);
+    }
 }
\ No newline at end of file
@@ -3,11 +3,13 @@ package io.github.piscescup.mc.fabric.register.tag;
 import io.github.piscescup.mc.fabric.datagen.tag.TagKeysContainer;
 import io.github.piscescup.mc.fabric.register.Register;
 import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
+import io.github.piscescup.mc.fabric.utils.RuntimeMode;
 import io.github.piscescup.mc.fabric.utils.constant.MCLanguageOption;
 import net.minecraft.block.Block;
 import net.minecraft.registry.Registry;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.registry.tag.BlockTags;
 import net.minecraft.registry.tag.PointOfInterestTypeTags;
 import net.minecraft.registry.tag.TagKey;
@@ -17,9 +19,13 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -42,9 +48,13 @@ import java.util.stream.Stream;
  * <h2>Collected Sources</h2>
  * <ul>
  *   <li>{@link #content}: direct entries to be included in the tag</li>
+ *   <li>{@link #keys}: registry keys of entries to be included in the tag</li>
  *   <li>{@link #tags}: referenced tags whose entries should be included</li>
  *   <li>{@link #mappings}: deferred producers evaluated with a {@link RegistryWrapper.WrapperLookup}</li>
+ *   <li>{@link #predicates}: filters over the target registry, evaluated in a single registry scan</li>
  * </ul>
+ * <p>Direct entries, tags and keys are deduped in insertion order as they are added, and the number
+ * of dropped duplicates is reported by the data generator.
  *
  * <h2>Usages</h2>
  * Below is an example for Item Tags:
@@ -66,7 +76,7 @@ import java.util.stream.Stream;
  *
  * Below is an example for POI Tags:
  * <pre>{@code
- * public static final TagKey<PointOfInterestType> JOB = TagKeyRegister.VANILLA_ACQUIRABLE_JOB_SITE
+ * public static final TagKey<PointOfInterestType> JOB = TagKeyRegister.createForTagKey(PointOfInterestTypeTags.ACQUIRABLE_JOB_SITE)
  *     .addRegistryKey(PCDevLibTestPOIs.TEST_VILLAGER_POI)
  *     .register()
  *     .get();
@@ -81,11 +91,14 @@ public class TagKeyRegister<T>
     extends Register<TagKey<T>, TagKeyPostRegistrable<T>, TagKeyRegister<T>>
     implements TagKeyPreRegistrable<T>, TagKeyPostRegistrable<T>
 {
-    private final List<T> content;
-    private final List<TagKey<T>> tags;
-    private final List<RegistryKey<T>> keys;
-    private final List<Function<RegistryWrapper.WrapperLookup, Stream<T>>> mappings;
+    private Set<T> content;
+    private Set<TagKey<T>> tags;
+    private Set<RegistryKey<T>> keys;
+    private List<Function<RegistryWrapper.WrapperLookup, Stream<T>>> mappings;
+    private List<Predicate<RegistryEntry.Reference<T>>> predicates;
     private final RegistryKey<? extends Registry<T>> registryRef;
+    private int duplicateCount;
+    private boolean queued;
 
     private TagKeyRegister(RegistryKey<? extends Registry<T>> registryRef, Identifier id) {
         super();
@@ -93,10 +106,11 @@ public class TagKeyRegister<T>
         this.thing = TagKey.of(registryRef, id);
 
         this.registryRef = registryRef;
-        this.content = new ArrayList<>();
-        this.tags = new ArrayList<>();
-        this.keys = new ArrayList<>();
+        this.content = new LinkedHashSet<>();
+        this.tags = new LinkedHashSet<>();
+        this.keys = new LinkedHashSet<>();
         this.mappings = new ArrayList<>();
+        this.predicates = new ArrayList<>();
     }
 
     /**
@@ -133,36 +147,40 @@ public class TagKeyRegister<T>
     }
 
     /**
-     * Adds a single element to this tag's direct content list.
+     * Adds a single element to this tag's direct content, unless it was already added.
      *
      * @param item the element to add
      */
     @Override
-    public TagKeyPreRegistrable<T> add(@NotNull T item) {
+    public synchronized TagKeyPreRegistrable<T> add(@NotNull T item) {
         NullCheck.requireNonNull(item);
-        this.content.add(item);
+        this.count(this.content.add(item));
         return this;
     }
 
     /**
-     * Adds a referenced tag to be included by this tag.
+     * Adds a referenced tag to be included by this tag, unless it was already added.
      *
      * @param tag the referenced tag
      */
     @Override
-    public TagKeyPreRegistrable<T> addTag(@NotNull TagKey<T> tag) {
+    public synchronized TagKeyPreRegistrable<T> addTag(@NotNull TagKey<T> tag) {
         NullCheck.requireNonNull(tag);
-        this.tags.add(tag);
+        this.count(this.tags.add(tag));
         return this;
     }
 
     @Override
-    public TagKeyPreRegistrable<T> addRegistryKey(@NotNull RegistryKey<T> key) {
+    public synchronized TagKeyPreRegistrable<T> addRegistryKey(@NotNull RegistryKey<T> key) {
         NullCheck.requireNonNull(key);
-        this.keys.add(key);
+        this.count(this.keys.add(key));
         return this;
     }
 
+    private void count(boolean added) {
+        if (!added) this.duplicateCount++;
+    }
+
     /**
      * Adds a deferred mapping that produces elements to include in this tag.
      *
@@ -172,27 +190,79 @@ public class TagKeyRegister<T>
      * @param mappingFunction a lookup-dependent producer for tag elements
      */
     @Override
-    public TagKeyPreRegistrable<T> add(Function<RegistryWrapper.WrapperLookup, Stream<T>> mappingFunction) {
+    public synchronized TagKeyPreRegistrable<T> add(Function<RegistryWrapper.WrapperLookup, Stream<T>> mappingFunction) {
         NullCheck.requireNonNull(mappingFunction);
         this.mappings.add(mappingFunction);
         return this;
     }
 
+    /**
+     * Adds a predicate selecting registry entries to include in this tag.
+     *
+     * <p>The predicate is stored and evaluated later by the tag data provider, during its single
+     * scan of the target registry.
+     *
+     * @param predicate the predicate selecting the registry entries to add
+     */
+    @Override
+    public synchronized TagKeyPreRegistrable<T> addMatching(@NotNull Predicate<RegistryEntry.Reference<T>> predicate) {
+        NullCheck.requireNonNull(predicate);
+        this.predicates.add(predicate);
+        return this;
+    }
+
     /**
      * Finalizes this builder and enqueues it into the {@link TagKeysContainer} for later processing.
      *
      * <p>This method does not directly emit data. Instead, it registers this instance into a
      * container associated with {@link #registryRef}, where a tag data provider can later read
      * {@link #getContent()}, {@link #getTags()}, and {@link #getMappings()} to produce the final output.
-     *
+     * The container accepts concurrent appends, so this does not take the shared registry lock.
+     * A register is only enqueued once, however many times it is registered.
      */
     @Override
     public TagKeyPostRegistrable<T> register() {
-        TagKeysContainer.getTagKeyRegisters(this.registryRef)
-            .add(this);
-        return this;
+        return profiled(() -> {
+            if (this.markQueued()) {
+                TagKeysContainer.getTagKeyRegisters(this.registryRef).add(this);
+            }
+            return this;
+        });
+    }
+
+    private synchronized boolean markQueued() {
+        if (this.queued) return false;
+        this.queued = true;
+        return true;
+    }
+
+
+    /**
+     * Drops the collected sources, which are only read by the data generators, unless they are running.
+     *
+     * <p>The sources are replaced with empty, mutable collections rather than immutable ones, as the
+     * shared vanilla tag builders (e.g. {@code VANILLA_NEEDS_IRON_TOOL}) may be extended and
+     * registered again by another mod after this one has been sealed.
+     */
+    @Override
+    protected void releaseBuilderState() {
+        if (RuntimeMode.isDataGeneration()) return;
+
+        this.content = new LinkedHashSet<>();
+        this.tags = new LinkedHashSet<>();
+        this.keys = new LinkedHashSet<>();
+        this.mappings = new ArrayList<>();
+        this.predicates = new ArrayList<>();
     }
 
+    /**
+     * Reports tag registrations under {@code tags/<registry>}, as a tag has no registry key of its own.
+     */
+    @Override
+    protected @NotNull Identifier registryId() {
+        Identifier registry = this.registryRef.getValue();
+        return Identifier.of(registry.getNamespace(), "tags/" + registry.getPath());
+    }
 
     private static final BiFunction<Identifier, String, String> TAG_TRANSLATION_FUNC =
         (id, translation) -> "#" + id.getNamespace() + ":" + translation;
@@ -211,34 +281,57 @@ public class TagKeyRegister<T>
     }
 
     /**
-     * Returns the direct content elements collected for this tag.
+     * Returns a snapshot of the direct content elements collected for this tag, deduped in insertion order.
      *
      * @return the direct elements
      */
-    public List<T> getContent() {
-        return content;
+    public synchronized Set<T> getContent() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(content));
     }
 
     /**
-     * Returns the referenced tags collected for this tag.
+     * Returns a snapshot of the referenced tags collected for this tag, deduped in insertion order.
      *
      * @return the referenced tags
      */
-    public List<TagKey<T>> getTags() {
-        return tags;
+    public synchronized Set<TagKey<T>> getTags() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(tags));
     }
 
     /**
-     * Returns the deferred lookup-dependent mappings collected for this tag.
+     * Returns a snapshot of the deferred lookup-dependent mappings collected for this tag.
      *
      * @return the mapping functions
      */
-    public List<Function<RegistryWrapper.WrapperLookup, Stream<T>>> getMappings() {
-        return mappings;
+    public synchronized List<Function<RegistryWrapper.WrapperLookup, Stream<T>>> getMappings() {
+        return List.copyOf(mappings);
+    }
+
+    /**
+     * Returns a snapshot of the predicates selecting registry entries collected for this tag.
+     *
+     * @return the predicates
+     */
+    public synchronized List<Predicate<RegistryEntry.Reference<T>>> getPredicates() {
+        return List.copyOf(predicates);
     }
 
-    public List<RegistryKey<T>> getKeys() {
-        return keys;
+    /**
+     * Returns a snapshot of the registry keys collected for this tag, deduped in insertion order.
+     *
+     * @return the registry keys
+     */
+    public synchronized Set<RegistryKey<T>> getKeys() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(keys));
+    }
+
+    /**
+     * Returns how many elements, tags and keys were added to this tag more than once, and dropped.
+     *
+     * @return the number of dropped duplicates
+     */
+    public synchronized int getDuplicateCount() {
+        return duplicateCount;
     }
 
     /**
@@ -253,12 +346,23 @@ public class TagKeyRegister<T>
         return new TagKeyRegister<>(vanillaTag.registryRef(), vanillaTag.id());
     }
 
+    /*
+     * The builders below are shared by every mod. Their mutators are synchronized, so they may be
+     * extended by modules constructed concurrently, but the order of their contents then depends
+     * on thread timing. Each module should create its own builder of the vanilla tag with
+     * createForTagKey instead; the registers of a same tag are merged in a deterministic order.
+     */
+
     /**
      * Represents a pre-registrable tag key for blocks that require an iron tool or better to be mined.
      * This tag is designed to match the vanilla Minecraft behavior, where certain blocks are only
      * mineable with at least an iron-tier tool to prevent breaking and to drop their items.
      * It is used to categorize and manage blocks within the game's data system.
+     *
+     * @deprecated shared by every mod, so its content order depends on the module that extends it
+     * first; use {@code createForTagKey(BlockTags.NEEDS_IRON_TOOL)} in each module instead.
      */
+    @Deprecated(forRemoval = true)
     public static final TagKeyPreRegistrable<Block> VANILLA_NEEDS_IRON_TOOL = createForTagKey(BlockTags.NEEDS_IRON_TOOL);
 
     /**
@@ -266,20 +370,32 @@ public class TagKeyRegister<T>
      * This tag is designed to align with the vanilla Minecraft tag, ensuring compatibility and ease of use
      * within modded environments. Blocks associated with this tag will not drop anything or drop in a less
      * effective manner when mined with tools other than diamond ones.
+     *
+     * @deprecated shared by every mod, so its content order depends on the module that extends it
+     * first; use {@code createForTagKey(BlockTags.NEEDS_DIAMOND_TOOL)} in each module instead.
      */
+    @Deprecated(forRemoval = true)
     public static final TagKeyPreRegistrable<Block> VANILLA_NEEDS_DIAMOND_TOOL = createForTagKey(BlockTags.NEEDS_DIAMOND_TOOL);
 
     /**
      * Represents a pre-registrable tag for blocks that require at least a stone tool to be mined effectively.
      * This tag is designed to align with the vanilla Minecraft behavior, specifically targeting blocks
      * associated with the {@link BlockTags#NEEDS_STONE_TOOL} tag.
+     *
+     * @deprecated shared by every mod, so its content order depends on the module that extends it
+     * first; use {@code createForTagKey(BlockTags.NEEDS_STONE_TOOL)} in each module instead.
      */
+    @Deprecated(forRemoval = true)
     public static final TagKeyPreRegistrable<Block> VANILLA_NEEDS_STONE_TOOL = createForTagKey(BlockTags.NEEDS_STONE_TOOL);
 
     /**
      * A pre-registrable builder for a vanilla {@link PointOfInterestType} tag, specifically for the "acquirable job site" tag.
      * This constant is used to create and manage tags related to point of interest types that can be acquired as job sites in the game.
+     *
+     * @deprecated shared by every mod, so its content order depends on the module that extends it
+     * first; use {@code createForTagKey(PointOfInterestTypeTags.ACQUIRABLE_JOB_SITE)} in each module instead.
      */
+    @Deprecated(forRemoval = true)
     public static final TagKeyPreRegistrable<PointOfInterestType> VANILLA_ACQUIRABLE_JOB_SITE = createForTagKey(PointOfInterestTypeTags.ACQUIRABLE_JOB_SITE);
 
 
@@ -0,0 +1,217 @@
+package io.github.piscescup.mc.fabric.register.tag;
+
+import io.github.piscescup.mc.fabric.datagen.tag.TagKeysContainer;
+import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+
+/**
+ * Opt-in runtime index of tag membership, backed by one bitset over raw registry ids per tag.
+ * <p>
+ * {@link RegistryEntry#isIn(TagKey)} looks the tag up in the hash set of the entry's tags. Once
+ * the index is {@link #enable() enabled}, every tag declared through {@link TagKeyRegister} is
+ * compiled into a bitset, rebuilt each time the tags are (re)loaded, and a membership test on a
+ * raw id is a single array read and a bit test:
+ * <pre>{@code
+ * private static final TagMembershipIndex.Handle<Item> ORES = TagMembershipIndex.handle(PCDevLibTestItemTags.ORES);
+ *
+ * int rawId = Registries.ITEM.getRawId(item); // once, e.g. when building a lookup table
+ * if (ORES.contains(rawId)) { ... }
+ * }</pre>
+ * <p>
+ * Only {@link Handle#contains(int)} has that cost. The overloads taking an element or an entry
+ * first look its raw id up through {@link Registry#getRawId(Object)}, a hashed lookup costing
+ * about as much as the tag set lookup of {@code isIn}; they are there for convenience, not speed.
+ * <p>
+ * Only tags of static registries (see {@link Registries}) can be indexed, as the raw ids of the
+ * dynamic registries are not shared between the client and the server. Until the tags are loaded
+ * for the first time, every handle is empty.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+public final class TagMembershipIndex {
+    private static final long[] EMPTY = new long[0];
+
+    private static final AtomicBoolean ENABLED = new AtomicBoolean();
+
+    private static final Map<TagKey<?>, Handle<?>> HANDLES = new ConcurrentHashMap<>();
+
+    private TagMembershipIndex() {
+        MOD_LOGGER.error(
+            "Attempted to instantiate {}", TagMembershipIndex.class.getCanonicalName()
+        );
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * The compiled membership of a single tag.
+     *
+     * @param <T> the element type of the tag
+     */
+    public static final class Handle<T> {
+        private final TagKey<T> tag;
+        private final Registry<T> registry;
+        private volatile long[] bits = EMPTY;
+
+        private Handle(TagKey<T> tag, Registry<T> registry) {
+            this.tag = tag;
+            this.registry = registry;
+        }
+
+        /**
+         * Tests whether the element with the given raw registry id is in the tag.
+         *
+         * @param rawId the raw id of the element, as given by {@link Registry#getRawId(Object)}
+         * @return true if the element is in the tag
+         */
+        public boolean contains(int rawId) {
+            return test(this.bits, rawId);
+        }
+
+        /**
+         * Tests whether the given element is in the tag.
+         * <p>
+         * The raw id of the element is looked up through {@link Registry#getRawId(Object)} first,
+         * so this is no cheaper than {@link RegistryEntry#isIn(TagKey)}; prefer
+         * {@link #contains(int)} with a raw id known beforehand.
+         *
+         * @param element the element
+         * @return true if the element is in the tag
+         */
+        public boolean contains(T element) {
+            return this.contains(this.registry.getRawId(element));
+        }
+
+        /**
+         * Tests whether the element of the given entry is in the tag.
+         * <p>
+         * As with {@link #contains(Object)}, the raw id is looked up first.
+         *
+         * @param entry the registry entry
+         * @return true if the element is in the tag
+         */
+        public boolean contains(RegistryEntry<T> entry) {
+            return this.contains(entry.value());
+        }
+
+        /**
+         * Returns the number of elements in the tag, as of the last rebuild.
+         *
+         * @return the number of elements
+         */
+        public int size() {
+            int size = 0;
+            for (long word : this.bits) {
+                size += Long.bitCount(word);
+            }
+            return size;
+        }
+
+        public TagKey<T> getTag() {
+            return tag;
+        }
+
+        private void rebuild() {
+            long[] bits = new long[(this.registry.size() + 63) >>> 6];
+            for (RegistryEntry<T> entry : this.registry.iterateEntries(this.tag)) {
+                int rawId = this.registry.getRawId(entry.value());
+                if (rawId >= 0) {
+                    bits[rawId >>> 6] |= 1L << rawId;
+                }
+            }
+            this.bits = bits;
+        }
+    }
+
+    /**
+     * Enables the index: the tags declared through {@link TagKeyRegister} are indexed, and every
+     * handle is rebuilt whenever the tags are loaded. Calling this method again has no effect.
+     */
+    public static void enable() {
+        if (!ENABLED.compareAndSet(false, true)) return;
+
+        indexDeclaredTags();
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> rebuild());
+    }
+
+    /**
+     * Returns whether the index has been enabled.
+     *
+     * @return true if {@link #enable()} has been called
+     */
+    public static boolean isEnabled() {
+        return ENABLED.get();
+    }
+
+    /**
+     * Returns the handle of the given tag, indexing the tag if it is not indexed yet.
+     * <p>
+     * Handles stay valid across reloads and should be kept in a constant.
+     *
+     * @param tag the tag
+     * @param <T> the element type of the tag
+     * @return the handle of the tag
+     * @throws IllegalArgumentException if the tag does not belong to a static registry
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull Handle<T> handle(@NotNull TagKey<T> tag) {
+        NullCheck.requireNonNull(tag);
+        return (Handle<T>) HANDLES.computeIfAbsent(tag, key -> {
+            Registry<T> registry = (Registry<T>) Registries.REGISTRIES.get(tag.registryRef().getValue());
+            if (registry == null) {
+                throw new IllegalArgumentException(
+                    "Tag #" + tag.id() + " does not belong to a static registry and cannot be indexed."
+                );
+            }
+
+            Handle<T> handle = new Handle<>(tag, registry);
+            handle.rebuild();
+            return handle;
+        });
+    }
+
+    /**
+     * Rebuilds every handle from the currently bound tags.
+     * <p>
+     * This is done automatically on tag reload once the index is enabled.
+     */
+    public static void rebuild() {
+        long start = System.nanoTime();
+        indexDeclaredTags();
+        HANDLES.values().forEach(Handle::rebuild);
+
+        MOD_LOGGER.debug(
+            "Rebuilt {} tag membership bitsets in {} us", HANDLES.size(), (System.nanoTime() - start) / 1_000L
+        );
+    }
+
+    static boolean test(long[] bits, int rawId) {
+        int word = rawId >>> 6;
+        return word < bits.length && (bits[word] & (1L << rawId)) != 0;
+    }
+
+    private static void indexDeclaredTags() {
+        for (RegistryKey<? extends Registry<?>> registryRef : TagKeysContainer.getRegistries()) {
+            if (!Registries.REGISTRIES.containsId(registryRef.getValue())) continue;
+            indexDeclaredTags(registryRef);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void indexDeclaredTags(RegistryKey<? extends Registry<?>> registryRef) {
+        TagKeysContainer.getTagKeyRegisters((RegistryKey<? extends Registry<T>>) registryRef)
+            .forEach(register -> handle(register.get()));
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.piscescup.mc.fabric.register.villager;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.world.poi.PointOfInterestType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+
+/**
+ * The workstation predicates of a profession registered through {@link VillagerRegister},
+ * optionally compiled into the point of interest types they accept.
+ * <p>
+ * Villager brains test the workstation predicates against every point of interest they scan.
+ * Once compilation is {@link #enable() enabled}, each predicate is evaluated once per
+ * {@link PointOfInterestType} when the tags are (re)loaded, after the registries have been frozen,
+ * and a check becomes a few reference comparisons against the accepted registry entries, with no
+ * hashing and no tag lookup. Workstation predicates accept one or a dozen types, so the scan stays
+ * shorter than the tag set lookup of the original predicate.
+ * <p>
+ * The compiled views are only given to the registered {@link net.minecraft.village.VillagerProfession}
+ * if compilation was enabled before the profession was registered; otherwise the profession holds
+ * the original predicates and this class stays out of the way.
+ * <p>
+ * Entries that are not references of the static registry, such as direct entries, are always
+ * tested against the original predicates.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+public final class CompiledProfessionPredicates {
+    private static final AtomicBoolean ENABLED = new AtomicBoolean();
+
+    private static final Queue<CompiledProfessionPredicates> INSTANCES = new ConcurrentLinkedQueue<>();
+
+    private final Predicate<RegistryEntry<PointOfInterestType>> heldWorkstation;
+    private final Predicate<RegistryEntry<PointOfInterestType>> acquirableWorkstation;
+
+    /**
+     * A workstation predicate, backed by the registry entries it accepts once compiled.
+     */
+    private static final class PoiPredicate implements Predicate<RegistryEntry<PointOfInterestType>> {
+        private final Predicate<RegistryEntry<PointOfInterestType>> predicate;
+        private volatile RegistryEntry<PointOfInterestType> @Nullable [] accepted;
+
+        private PoiPredicate(Predicate<RegistryEntry<PointOfInterestType>> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(RegistryEntry<PointOfInterestType> entry) {
+            RegistryEntry<PointOfInterestType>[] accepted = this.accepted;
+            if (accepted != null && entry.getType() == RegistryEntry.Type.REFERENCE) {
+                for (RegistryEntry<PointOfInterestType> candidate : accepted) {
+                    if (candidate == entry) return true;
+                }
+                return false;
+            }
+            return this.predicate.test(entry);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void compile() {
+            this.accepted = Registries.POINT_OF_INTEREST_TYPE.streamEntries()
+                .filter(this.predicate)
+                .toArray(RegistryEntry[]::new);
+        }
+
+        private boolean isCompiled() {
+            return this.accepted != null;
+        }
+    }
+
+    CompiledProfessionPredicates(
+        Predicate<RegistryEntry<PointOfInterestType>> heldWorkstation,
+        Predicate<RegistryEntry<PointOfInterestType>> acquirableWorkstation
+    ) {
+        if (isEnabled()) {
+            this.heldWorkstation = new PoiPredicate(heldWorkstation);
+            this.acquirableWorkstation = new PoiPredicate(acquirableWorkstation);
+            INSTANCES.add(this);
+        } else {
+            this.heldWorkstation = heldWorkstation;
+            this.acquirableWorkstation = acquirableWorkstation;
+        }
+    }
+
+    /**
+     * Enables the compilation: the predicates of every profession registered through
+     * {@link VillagerRegister} from now on are compiled each time the tags are loaded, as the
+     * original predicates commonly test tags. Calling this method again has no effect.
+     * <p>
+     * This must be called before the professions are registered, typically first thing in the
+     * mod initializer; professions registered earlier keep their original predicates.
+     */
+    public static void enable() {
+        if (!ENABLED.compareAndSet(false, true)) return;
+
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> compileAll());
+    }
+
+    /**
+     * Returns whether the compilation has been enabled.
+     *
+     * @return true if {@link #enable()} has been called
+     */
+    public static boolean isEnabled() {
+        return ENABLED.get();
+    }
+
+    /**
+     * Compiles the predicates of every profession registered through {@link VillagerRegister}
+     * since the compilation has been enabled.
+     * <p>
+     * This is done automatically on tag reload once compilation is enabled, and must only be
+     * called once the registries have been frozen.
+     */
+    public static void compileAll() {
+        long start = System.nanoTime();
+        INSTANCES.forEach(CompiledProfessionPredicates::compile);
+
+        MOD_LOGGER.debug(
+            "Compiled the predicates of {} villager professions in {} us",
+            INSTANCES.size(), (System.nanoTime() - start) / 1_000L
+        );
+    }
+
+    /**
+     * Returns the predicate identifying the workstation held by the profession.
+     *
+     * @return the held workstation predicate, or the original predicate if compilation was not enabled
+     */
+    public Predicate<RegistryEntry<PointOfInterestType>> heldWorkstation() {
+        return this.heldWorkstation;
+    }
+
+    /**
+     * Returns the predicate identifying the workstations the profession may acquire.
+     *
+     * @return the acquirable workstation predicate, or the original predicate if compilation was not enabled
+     */
+    public Predicate<RegistryEntry<PointOfInterestType>> acquirableWorkstation() {
+        return this.acquirableWorkstation;
+    }
+
+    /**
+     * Returns whether the predicates of this profession are currently compiled.
+     *
+     * @return true if the predicates are backed by their accepted entries
+     */
+    public boolean isCompiled() {
+        return this.heldWorkstation instanceof PoiPredicate held && held.isCompiled();
+    }
+
+    private void compile() {
+        ((PoiPredicate) this.heldWorkstation).compile();
+        ((PoiPredicate) this.acquirableWorkstation).compile();
+    }
+}
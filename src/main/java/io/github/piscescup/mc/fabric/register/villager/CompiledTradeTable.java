@@ -0,0 +1,243 @@
+package io.github.piscescup.mc.fabric.register.villager;
+
+import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.village.TradeOffers;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The weighted trade offers of a profession registered through {@link VillagerRegister}, compiled
+ * into an immutable table indexed by villager level.
+ *
+ * <p>Each {@link Level} holds its factories in a plain array together with an alias table built
+ * from their weights (Vose's alias method), so that drawing an offer is one random column and one
+ * biased coin flip, whatever the number of offers. Drawing the offers of a level-up without
+ * repetition ({@link Level#sampleExcluding}) only falls back to a linear scan once most of the
+ * pool has already been drawn.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+public final class CompiledTradeTable {
+
+    /**
+     * The number of offers a villager draws from the pool of its level when leveling up.
+     */
+    public static final int OFFERS_PER_LEVEL = 2;
+
+    /**
+     * The number of alias draws tried before {@link Level#sampleExcluding} scans the pool.
+     */
+    private static final int MAX_REJECTIONS = 8;
+
+    private static final Level EMPTY = new Level(new TradeOffers.Factory[0], new int[0]);
+
+    /**
+     * A trade offer factory and its selection weight.
+     *
+     * @param factory the factory
+     * @param weight  the selection weight, strictly positive
+     */
+    public record WeightedFactory(TradeOffers.Factory factory, int weight) {
+        public WeightedFactory {
+            NullCheck.requireNonNull(factory);
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Trade offer weight must be positive, got " + weight);
+            }
+        }
+    }
+
+    private final Level[] levels;
+
+    private CompiledTradeTable(Level[] levels) {
+        this.levels = levels;
+    }
+
+    /**
+     * Compiles the given offers.
+     *
+     * @param offers the weighted factories per villager level
+     * @return the compiled table
+     */
+    public static CompiledTradeTable compile(Map<Integer, List<WeightedFactory>> offers) {
+        NullCheck.requireNonNull(offers);
+
+        int maxLevel = offers.keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+        Level[] levels = new Level[maxLevel + 1];
+        for (int level = 0; level <= maxLevel; level++) {
+            List<WeightedFactory> factories = offers.getOrDefault(level, List.of());
+            levels[level] = factories.isEmpty() ? EMPTY : new Level(
+                factories.stream().map(WeightedFactory::factory).toArray(TradeOffers.Factory[]::new),
+                factories.stream().mapToInt(WeightedFactory::weight).toArray()
+            );
+        }
+        return new CompiledTradeTable(levels);
+    }
+
+    /**
+     * Returns the offers of the given villager level.
+     *
+     * @param level the villager level
+     * @return the offers of the level, empty if the level has none
+     */
+    public Level level(int level) {
+        return level >= 0 && level < this.levels.length ? this.levels[level] : EMPTY;
+    }
+
+    /**
+     * Returns the highest villager level of this table.
+     *
+     * @return the highest level, or 0 if the table is empty
+     */
+    public int maxLevel() {
+        return this.levels.length - 1;
+    }
+
+    /**
+     * The weighted offers of a single villager level.
+     */
+    public static final class Level {
+        private final TradeOffers.Factory[] factories;
+        private final int[] weights;
+        private final int totalWeight;
+        private final double[] probabilities;
+        private final int[] aliases;
+
+        private Level(TradeOffers.Factory[] factories, int[] weights) {
+            this.factories = factories;
+            this.weights = weights;
+
+            int n = weights.length;
+            long total = 0;
+            for (int weight : weights) {
+                total += weight;
+            }
+            this.totalWeight = Math.toIntExact(total);
+            this.probabilities = new double[n];
+            this.aliases = new int[n];
+
+            // Vose's alias method: columns are filled by pairing an underfull entry with an overfull one.
+            double[] scaled = new double[n];
+            Deque<Integer> small = new ArrayDeque<>();
+            Deque<Integer> large = new ArrayDeque<>();
+            for (int i = 0; i < n; i++) {
+                scaled[i] = (double) weights[i] * n / total;
+                (scaled[i] < 1.0 ? small : large).push(i);
+            }
+            while (!small.isEmpty() && !large.isEmpty()) {
+                int less = small.pop();
+                int more = large.pop();
+                this.probabilities[less] = scaled[less];
+                this.aliases[less] = more;
+                scaled[more] = scaled[more] + scaled[less] - 1.0;
+                (scaled[more] < 1.0 ? small : large).push(more);
+            }
+            while (!large.isEmpty()) {
+                this.probabilities[large.pop()] = 1.0;
+            }
+            while (!small.isEmpty()) {
+                this.probabilities[small.pop()] = 1.0;
+            }
+        }
+
+        /**
+         * Returns the number of offers of this level.
+         *
+         * @return the number of offers
+         */
+        public int size() {
+            return this.factories.length;
+        }
+
+        /**
+         * Returns the factory at the given index.
+         *
+         * @param index the index of the offer
+         * @return the factory
+         */
+        public TradeOffers.Factory factory(int index) {
+            return this.factories[index];
+        }
+
+        /**
+         * Returns the weight of the offer at the given index.
+         *
+         * @param index the index of the offer
+         * @return the weight
+         */
+        public int weight(int index) {
+            return this.weights[index];
+        }
+
+        /**
+         * Draws the index of an offer, with a probability proportional to its weight.
+         *
+         * @param random the random source
+         * @return the index of the drawn offer, or -1 if this level is empty
+         */
+        public int sample(Random random) {
+            int n = this.factories.length;
+            if (n == 0) return -1;
+
+            int column = random.nextInt(n);
+            return random.nextDouble() < this.probabilities[column] ? column : this.aliases[column];
+        }
+
+        /**
+         * Draws the index of an offer that has not been drawn yet, with a probability proportional
+         * to its weight among the remaining offers, and marks it as drawn.
+         *
+         * @param random the random source
+         * @param drawn  the offers drawn so far, as a bitset of {@link #maskLength()} words
+         * @return the index of the drawn offer, or -1 if every offer has been drawn
+         */
+        public int sampleExcluding(Random random, long[] drawn) {
+            for (int attempt = 0; attempt < MAX_REJECTIONS; attempt++) {
+                int index = this.sample(random);
+                if (index < 0) return -1;
+                if (!isSet(drawn, index)) {
+                    set(drawn, index);
+                    return index;
+                }
+            }
+
+            int remaining = this.totalWeight;
+            for (int i = 0; i < this.factories.length; i++) {
+                if (isSet(drawn, i)) remaining -= this.weights[i];
+            }
+            if (remaining <= 0) return -1;
+
+            int target = random.nextInt(remaining);
+            for (int i = 0; i < this.factories.length; i++) {
+                if (isSet(drawn, i)) continue;
+                target -= this.weights[i];
+                if (target < 0) {
+                    set(drawn, i);
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the number of words of the bitsets given to {@link #sampleExcluding}.
+         *
+         * @return the bitset length
+         */
+        public int maskLength() {
+            return (this.factories.length + 63) >>> 6;
+        }
+
+        private static boolean isSet(long[] bits, int index) {
+            return (bits[index >>> 6] & (1L << index)) != 0;
+        }
+
+        private static void set(long[] bits, int index) {
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+}
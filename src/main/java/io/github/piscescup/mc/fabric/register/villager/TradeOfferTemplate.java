@@ -0,0 +1,108 @@
+package io.github.piscescup.mc.fabric.register.villager;
+
+import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.village.TradeOffer;
+import net.minecraft.village.TradeOffers;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A {@link TradeOffers.Factory} handing out copies of a single template offer, for factories whose
+ * offer does not depend on the villager or on the random source.
+ *
+ * <p>The template is built by the wrapped factory the first time an offer is requested, as
+ * factories need a world, and is then copied with {@link TradeOffer#copy()} for every villager
+ * drawing it: only the sold stack is copied, the traded items being immutable. The templates are
+ * dropped when the server stops, as they may refer to the dynamic registries of that server, and
+ * rebuilt by the next server.
+ *
+ * <p>Only deterministic factories may be wrapped. Factories using the random source, such as
+ * {@link TradeOffers.SellEnchantedToolFactory}, must be registered as is, so that each villager
+ * gets its own offer.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ *
+ * @see VillagerPreRegistrable.VillagerTradesStage#deterministic
+ */
+public final class TradeOfferTemplate implements TradeOffers.Factory {
+    private static final Queue<TradeOfferTemplate> INSTANCES = new ConcurrentLinkedQueue<>();
+
+    static {
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> INSTANCES.forEach(TradeOfferTemplate::clear));
+    }
+
+    private final TradeOffers.Factory factory;
+    private volatile @Nullable TradeOffer template;
+
+    private TradeOfferTemplate(TradeOffers.Factory factory) {
+        this.factory = factory;
+        INSTANCES.add(this);
+    }
+
+    /**
+     * Wraps a deterministic factory into a factory copying a template offer.
+     *
+     * @param factory the deterministic factory
+     * @return the caching factory, or the factory itself if it is already caching
+     */
+    public static TradeOffers.Factory of(TradeOffers.Factory factory) {
+        NullCheck.requireNonNull(factory);
+        return factory instanceof TradeOfferTemplate ? factory : new TradeOfferTemplate(factory);
+    }
+
+    /**
+     * Creates a factory handing out copies of the given offer.
+     * <p>The offer is the template from the start, so the factory needs no world; it must only
+     * refer to static registries, as it outlives the server.</p>
+     *
+     * @param offer the template offer
+     * @return the copying factory
+     */
+    public static TradeOffers.Factory of(TradeOffer offer) {
+        NullCheck.requireNonNull(offer);
+        TradeOfferTemplate template = new TradeOfferTemplate((world, entity, random) -> offer);
+        template.template = offer;
+        return template;
+    }
+
+    @Override
+    public @Nullable TradeOffer create(ServerWorld world, Entity entity, Random random) {
+        TradeOffer template = this.template;
+        if (template == null) {
+            template = this.factory.create(world, entity, random);
+            if (template == null) return null;
+
+            this.template = template;
+        }
+        return template.copy();
+    }
+
+    private void clear() {
+        this.template = null;
+    }
+
+    /**
+     * Returns the template offer, if it has been built.
+     *
+     * @return the template, or null until a server has built it
+     */
+    @Nullable TradeOffer getTemplate() {
+        return this.template;
+    }
+
+    /**
+     * Returns the wrapped factory.
+     *
+     * @return the deterministic factory building the template
+     */
+    public TradeOffers.Factory getFactory() {
+        return factory;
+    }
+}
@@ -0,0 +1,316 @@
+package io.github.piscescup.mc.fabric.register.villager;
+
+import io.github.piscescup.mc.fabric.utils.CheckUtils.NullCheck;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.village.TradeOffer;
+import net.minecraft.village.TradeOfferList;
+import net.minecraft.village.TradeOffers;
+import net.minecraft.village.VillagerProfession;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+
+/**
+ * Headless load simulator of the trades of a profession, from the first level-up to the last.
+ *
+ * <p>The simulator runs a population of villagers through every level of the trade pools of a
+ * profession and draws {@link CompiledTradeTable#OFFERS_PER_LEVEL} distinct pool entries per
+ * level-up, as {@code VillagerEntity#fillRecipesFromPool} does. The weighted group registered by
+ * {@link VillagerRegister} for a level is one entry of its pool; when drawn, one of its offers is
+ * picked by weight, as {@link TradeTableSlotFactory} does. Each drawn {@link TradeOfferTemplate}
+ * whose template is built is copied into the offer list of the villager, and every offer of the
+ * villager is then traded and restocked a given number of times per level, as
+ * {@code VillagerEntity#restock} does. The report gives the throughput and the allocation rate of
+ * the simulating thread, and how often each offer ends up in a villager's trades:
+ * <pre>{@code
+ * TradeTableSimulator.Report report = TradeTableSimulator.simulate(
+ *     RegistryKey.of(RegistryKeys.VILLAGER_PROFESSION, Identifier.of(MOD_ID, "test_profession")), 10_000, 4, 42L
+ * );
+ * MOD_LOGGER.info("{}", report);
+ * }</pre>
+ *
+ * <p>Other trade offer factories need a running server world, so the simulator does not call
+ * them: they are drawn, and counted in {@link Report#unbuiltDraws()}, but cost nothing. Templates
+ * are built by the first villager drawing them on a server, or given upfront through
+ * {@link TradeOfferTemplate#of(TradeOffer)}. The per-operation costs are measured by the
+ * {@code TradeTableBenchmark} JMH benchmark.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+public final class TradeTableSimulator {
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = resolveThreadMXBean();
+
+    private TradeTableSimulator() {
+        MOD_LOGGER.error(
+            "Attempted to instantiate {}", TradeTableSimulator.class.getCanonicalName()
+        );
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * An offer a villager may get at some level.
+     *
+     * @param factory the factory building the offer
+     * @param weight  the weight of the offer within the weighted group of its level, or 0 for an
+     *                offer that is an entry of the pool itself
+     */
+    public record Offer(TradeOffers.Factory factory, int weight) {}
+
+    /**
+     * The result of a simulation.
+     *
+     * @param villagers      the number of simulated villagers
+     * @param levelUps       the number of simulated level-ups
+     * @param copiedOffers   the number of template offers copied into the villagers' trades
+     * @param unbuiltDraws   the number of drawn offers whose factory could not be called headless
+     * @param restocks       the number of simulated restocks, each covering every offer of a villager
+     * @param trades         the number of simulated trades
+     * @param nanos          the duration of the simulation
+     * @param allocatedBytes the bytes allocated by the simulating thread, or -1 if unsupported
+     * @param offers         the offers of each level: the entries of the pool, then the offers of
+     *                       the weighted groups it holds; the rate of the entry of a weighted group
+     *                       is the share of the villagers that got any of its offers
+     * @param draws          the number of times each offer has been drawn, by level then by index
+     */
+    public record Report(
+        int villagers,
+        long levelUps,
+        long copiedOffers,
+        long unbuiltDraws,
+        long restocks,
+        long trades,
+        long nanos,
+        long allocatedBytes,
+        List<List<Offer>> offers,
+        long[][] draws
+    ) {
+        /**
+         * Returns the simulated level-ups per second, restocks included.
+         *
+         * @return the level-up throughput
+         */
+        public double levelUpsPerSecond() {
+            return this.nanos == 0 ? 0.0 : this.levelUps * 1e9 / this.nanos;
+        }
+
+        /**
+         * Returns the bytes allocated per simulated level-up, restocks included.
+         *
+         * @return the allocation per level-up, or -1 if unsupported
+         */
+        public double bytesPerLevelUp() {
+            return this.allocatedBytes < 0 || this.levelUps == 0 ? -1.0 : (double) this.allocatedBytes / this.levelUps;
+        }
+
+        /**
+         * Returns the share of the villagers that got an offer at its level.
+         *
+         * @param level the villager level
+         * @param index the index of the offer in {@link #offers()} at that level
+         * @return the observed inclusion rate of the offer
+         */
+        public double inclusionRate(int level, int index) {
+            return this.villagers == 0 ? 0.0 : (double) this.draws[level][index] / this.villagers;
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner joiner = new StringJoiner(System.lineSeparator());
+            joiner.add(String.format(
+                "%d villagers, %d level-ups, %d offers copied (%d not built), %d restocks, %d trades in %.1f ms: "
+                    + "%.0f level-ups/s, %.1f B/level-up",
+                this.villagers, this.levelUps, this.copiedOffers, this.unbuiltDraws, this.restocks, this.trades,
+                this.nanos / 1e6, this.levelUpsPerSecond(), this.bytesPerLevelUp()
+            ));
+            for (int level = 1; level < this.draws.length; level++) {
+                List<Offer> levelOffers = this.offers.get(level);
+                if (levelOffers.isEmpty()) continue;
+
+                StringJoiner rates = new StringJoiner(" ");
+                for (int index = 0; index < levelOffers.size(); index++) {
+                    int weight = levelOffers.get(index).weight();
+                    String label = weight == 0 ? "#" + index : "#" + index + "(w" + weight + ")";
+                    rates.add(String.format("%s=%.3f", label, this.inclusionRate(level, index)));
+                }
+                joiner.add("  level " + level + ": " + rates);
+            }
+            return joiner.toString();
+        }
+    }
+
+    /**
+     * Simulates villagers of a registered profession leveling up through its trade pools, as
+     * currently held by {@link TradeOffers#PROFESSION_TO_LEVELED_TRADE}.
+     *
+     * @param profession       the key of the profession
+     * @param villagers        the number of villagers to simulate
+     * @param restocksPerLevel the number of restocks of every offer at each level
+     * @param seed             the seed of the random source
+     * @return the report of the simulation
+     * @throws IllegalArgumentException if the profession has no trades or a count is negative
+     */
+    public static Report simulate(RegistryKey<VillagerProfession> profession, int villagers, int restocksPerLevel, long seed) {
+        NullCheck.requireNonNull(profession);
+        Int2ObjectMap<TradeOffers.Factory[]> pools = TradeOffers.PROFESSION_TO_LEVELED_TRADE.get(profession);
+        if (pools == null) {
+            throw new IllegalArgumentException("Villager profession " + profession.getValue() + " has no trades");
+        }
+        return simulate(pools, villagers, restocksPerLevel, seed);
+    }
+
+    /**
+     * Simulates villagers leveling up through the given trade pools.
+     *
+     * @param pools            the trade pool of each villager level
+     * @param villagers        the number of villagers to simulate
+     * @param restocksPerLevel the number of restocks of every offer at each level
+     * @param seed             the seed of the random source
+     * @return the report of the simulation
+     * @throws IllegalArgumentException if a count is negative
+     */
+    public static Report simulate(Int2ObjectMap<TradeOffers.Factory[]> pools, int villagers, int restocksPerLevel, long seed) {
+        NullCheck.requireNonNull(pools);
+        if (villagers < 0 || restocksPerLevel < 0) {
+            throw new IllegalArgumentException(
+                "Villager and restock counts must not be negative, got " + villagers + " and " + restocksPerLevel
+            );
+        }
+
+        int maxLevel = pools.keySet().intStream().max().orElse(0);
+        TradeOffers.Factory[][] levelPools = new TradeOffers.Factory[maxLevel + 1][];
+        int[][] groupOffsets = new int[maxLevel + 1][];
+        List<List<Offer>> offers = new ArrayList<>(maxLevel + 1);
+        long[][] draws = new long[maxLevel + 1][];
+        int largestPool = 0;
+        for (int level = 0; level <= maxLevel; level++) {
+            TradeOffers.Factory[] pool = level == 0 ? null : pools.get(level);
+            levelPools[level] = pool == null ? new TradeOffers.Factory[0] : pool.clone();
+            groupOffsets[level] = new int[levelPools[level].length];
+            offers.add(levelOffers(levelPools[level], groupOffsets[level]));
+            draws[level] = new long[offers.get(level).size()];
+            largestPool = Math.max(largestPool, levelPools[level].length);
+        }
+
+        // The remaining entries of the pool, reused across level-ups as vanilla copies the pool.
+        int[] remaining = new int[largestPool];
+        Random random = Random.create(seed);
+        long levelUps = 0;
+        long copiedOffers = 0;
+        long unbuiltDraws = 0;
+        long restocks = 0;
+        long trades = 0;
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+
+        for (int villager = 0; villager < villagers; villager++) {
+            TradeOfferList villagerOffers = new TradeOfferList();
+            for (int level = 1; level <= maxLevel; level++) {
+                TradeOffers.Factory[] pool = levelPools[level];
+                if (pool.length == 0) continue;
+
+                for (int i = 0; i < pool.length; i++) {
+                    remaining[i] = i;
+                }
+                int size = pool.length;
+                for (int slot = 0; slot < CompiledTradeTable.OFFERS_PER_LEVEL && size > 0; slot++) {
+                    int pick = random.nextInt(size);
+                    int entry = remaining[pick];
+                    remaining[pick] = remaining[--size];
+
+                    draws[level][entry]++;
+                    TradeOffers.Factory factory = pool[entry];
+                    if (factory instanceof TradeTableSlotFactory group) {
+                        int index = group.level().sample(random);
+                        draws[level][groupOffsets[level][entry] + index]++;
+                        factory = group.level().factory(index);
+                    }
+
+                    TradeOffer template = factory instanceof TradeOfferTemplate copying ? copying.getTemplate() : null;
+                    if (template != null) {
+                        villagerOffers.add(template.copy());
+                        copiedOffers++;
+                    } else {
+                        unbuiltDraws++;
+                    }
+                }
+                levelUps++;
+
+                for (int restock = 0; restock < restocksPerLevel; restock++) {
+                    trades += restock(villagerOffers, random);
+                    restocks++;
+                }
+            }
+        }
+
+        long nanos = System.nanoTime() - start;
+        long allocatedAfter = allocatedBytes();
+        long allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1L : allocatedAfter - allocatedBefore;
+        return new Report(
+            villagers, levelUps, copiedOffers, unbuiltDraws, restocks, trades, nanos, allocated, List.copyOf(offers), draws
+        );
+    }
+
+    /**
+     * Trades every offer a random number of times, up to its maximum uses, then restocks them as
+     * the villager does: the demand bonus is updated and the uses are reset.
+     *
+     * @return the number of trades
+     */
+    private static int restock(TradeOfferList offers, Random random) {
+        int trades = 0;
+        for (TradeOffer offer : offers) {
+            int uses = random.nextInt(offer.getMaxUses() + 1);
+            for (int use = 0; use < uses; use++) {
+                offer.use();
+            }
+            trades += uses;
+        }
+        for (TradeOffer offer : offers) {
+            offer.updateDemandBonus();
+            offer.resetUses();
+        }
+        return trades;
+    }
+
+    /**
+     * Lists the offers of a pool, the entries first, and records where the offers of each
+     * weighted group start.
+     */
+    private static List<Offer> levelOffers(TradeOffers.Factory[] pool, int[] groupOffsets) {
+        List<Offer> offers = new ArrayList<>();
+        for (TradeOffers.Factory factory : pool) {
+            offers.add(new Offer(factory, 0));
+        }
+        for (int entry = 0; entry < pool.length; entry++) {
+            if (pool[entry] instanceof TradeTableSlotFactory group) {
+                groupOffsets[entry] = offers.size();
+                CompiledTradeTable.Level level = group.level();
+                for (int index = 0; index < level.size(); index++) {
+                    offers.add(new Offer(level.factory(index), level.weight(index)));
+                }
+            }
+        }
+        return List.copyOf(offers);
+    }
+
+    private static long allocatedBytes() {
+        return THREAD_MX_BEAN == null ? -1L : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean resolveThreadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported()
+            && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.piscescup.mc.fabric.register.villager;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.village.TradeOffer;
+import net.minecraft.village.TradeOffers;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The single factory registered in the vanilla trade pool of a level for the weighted offers of
+ * that level, drawing one offer from its {@link CompiledTradeTable.Level}.
+ *
+ * <p>The vanilla villager draws its offers by removing random factories from a copy of the pool,
+ * so this factory is drawn as often as any other entry of the pool, and at most once per level-up.
+ * The weights only decide which offer of the group it yields. Should the drawn factory build no
+ * offer, the other offers of the group are tried in weighted order, as vanilla moves on to the
+ * next entry of the pool.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+final class TradeTableSlotFactory implements TradeOffers.Factory {
+    private final CompiledTradeTable.Level level;
+
+    TradeTableSlotFactory(CompiledTradeTable.Level level) {
+        this.level = level;
+    }
+
+    /**
+     * Returns the weighted offers this factory draws from.
+     *
+     * @return the compiled level
+     */
+    CompiledTradeTable.Level level() {
+        return this.level;
+    }
+
+    @Override
+    public @Nullable TradeOffer create(ServerWorld world, Entity entity, Random random) {
+        int index = this.level.sample(random);
+        if (index < 0) return null;
+
+        TradeOffer offer = this.level.factory(index).create(world, entity, random);
+        if (offer != null) return offer;
+
+        long[] drawn = new long[this.level.maskLength()];
+        drawn[index >>> 6] |= 1L << index;
+        while ((index = this.level.sampleExcluding(random, drawn)) >= 0) {
+            offer = this.level.factory(index).create(world, entity, random);
+            if (offer != null) return offer;
+        }
+        return null;
+    }
+}
@@ -21,5 +21,17 @@ import net.minecraft.village.VillagerProfession;
 public interface VillagerPostRegistrable
     extends PostRegistrable<VillagerProfession, VillagerPostRegistrable, VillagerRegister>
 {
+    /**
+     * Returns the weighted trade offers of the profession, compiled at registration.
+     *
+     * @return the compiled trade table, empty for levels without weighted offers
+     */
+    CompiledTradeTable getTradeTable();
 
+    /**
+     * Returns the workstation predicates of the profession.
+     *
+     * @return the profession predicates, compiled if {@link CompiledProfessionPredicates#enable()} was called before registration
+     */
+    CompiledProfessionPredicates getPredicates();
 }
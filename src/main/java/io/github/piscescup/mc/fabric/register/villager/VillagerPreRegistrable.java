@@ -1,6 +1,8 @@
 package io.github.piscescup.mc.fabric.register.villager;
 
 import com.google.common.collect.ImmutableSet;
+import io.github.piscescup.mc.fabric.register.DeferredHandle;
+import io.github.piscescup.mc.fabric.register.DeferredRegistry;
 import io.github.piscescup.mc.fabric.register.PreRegistrable;
 import io.github.piscescup.mc.fabric.utils.CheckUtils;
 import net.minecraft.block.Block;
@@ -174,5 +176,57 @@ public interface VillagerPreRegistrable {
          * @param masterOffer Factories for master trades
          */
         VillagerTradesStage master(TradeOffers.Factory... masterOffer);
+
+        /**
+         * Adds trade offers for the given level.
+         * <p>Each factory is an entry of the vanilla trade pool of the level, as with the level
+         * methods above.</p>
+         * @param level     The villager level, from {@link #LEVEL_NOVICE} to {@link #LEVEL_MASTER}
+         * @param factories Factories for the trades
+         * @throws IllegalArgumentException if the level is out of range
+         */
+        VillagerTradesStage offers(int level, TradeOffers.Factory... factories);
+
+        /**
+         * Adds trade offers for the given level to its weighted group.
+         * <p>The weighted offers of a level are compiled into a {@link CompiledTradeTable} and take
+         * a single entry of the vanilla trade pool of the level, so that they compete with the other
+         * offers of the level, including those added by other mods, as one vanilla offer would. When
+         * a villager draws that entry, one offer of the group is picked with a probability
+         * proportional to its weight: a level-up thus yields at most one weighted offer.</p>
+         * @param level     The villager level, from {@link #LEVEL_NOVICE} to {@link #LEVEL_MASTER}
+         * @param weight    The selection weight of each factory within the group, strictly positive
+         * @param factories Factories for the trades
+         * @throws IllegalArgumentException if the level or the weight is out of range
+         */
+        VillagerTradesStage weighted(int level, int weight, TradeOffers.Factory... factories);
+
+        /**
+         * Adds deterministic trade offers for the given level.
+         * <p>Each factory builds its offer once, and villagers get copies of that template offer
+         * instead of a new offer built from scratch; see {@link TradeOfferTemplate}. Factories
+         * using the random source must be added through the other methods, which call the factory
+         * for every villager.</p>
+         * @param level     The villager level, from {@link #LEVEL_NOVICE} to {@link #LEVEL_MASTER}
+         * @param factories Deterministic factories for the trades
+         * @throws IllegalArgumentException if the level is out of range
+         */
+        default VillagerTradesStage deterministic(int level, TradeOffers.Factory... factories) {
+            CheckUtils.NullCheck.requireAllNonNull(factories);
+            TradeOffers.Factory[] templates = new TradeOffers.Factory[factories.length];
+            for (int i = 0; i < factories.length; i++) {
+                templates[i] = TradeOfferTemplate.of(factories[i]);
+            }
+            return offers(level, templates);
+        }
+
+        /**
+         * Captures this configured registration without performing it; see {@link DeferredRegistry}.
+         *
+         * @return a handle resolving to the registered {@link VillagerProfession} once the deferred batch is registered
+         */
+        default DeferredHandle<VillagerProfession, VillagerPostRegistrable> registerDeferred() {
+            return DeferredRegistry.defer(this);
+        }
     }
 }
\ No newline at end of file
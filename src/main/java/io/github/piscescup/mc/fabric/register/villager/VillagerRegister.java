@@ -19,7 +19,6 @@ import net.minecraft.world.poi.PointOfInterestType;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,6 +34,14 @@ import java.util.function.Predicate;
  * this register guides the developer through a strict configuration pipeline:
  * Workstation -> Acquirability -> Gathering -> Secondary Sites -> Sounds -> Trades.</p>
  *
+ * <p>The offers added through the level methods are registered as is in the vanilla trade pools.
+ * Offers may instead be added to the weighted group of a level through {@link #weighted}; the group
+ * is compiled into a {@link CompiledTradeTable} at registration and takes a single entry of the
+ * pool, drawing one of its offers with a probability proportional to their weight.</p>
+ *
+ * <p>The workstation predicates can be compiled into the point of interest types they accept once
+ * the registries are frozen; see {@link CompiledProfessionPredicates#enable()}.</p>
+ *
  * <h2>Usages</h2>
  * <pre>{@code
  * public static final VillagerProfession TEST_VILLAGER_PROFESSION = VillagerRegister.createFor(MOD_ID, "test_profession")
@@ -102,10 +109,13 @@ public class VillagerRegister
     private ImmutableSet<Block> secondaryJobSites = ImmutableSet.of();
     private @Nullable SoundEvent workSound = null;
 
-    private final Map<Integer, List<TradeOffers.Factory>> offers;
+    private Map<Integer, List<TradeOffers.Factory>> offers;
+    private Map<Integer, List<CompiledTradeTable.WeightedFactory>> weightedOffers;
+    private CompiledTradeTable tradeTable;
+    private CompiledProfessionPredicates predicates;
 
-    private static Map<Integer, List<TradeOffers.Factory>> createOffersFactory() {
-        Map<Integer, List<TradeOffers.Factory>> map = new ConcurrentHashMap<>();
+    private static <T> Map<Integer, List<T>> createOffersFactory() {
+        Map<Integer, List<T>> map = new ConcurrentHashMap<>();
         map.put(LEVEL_NOVICE, new ArrayList<>());
         map.put(LEVEL_APPRENTICE, new ArrayList<>());
         map.put(LEVEL_JOURNEYMAN, new ArrayList<>());
@@ -126,6 +136,7 @@ public class VillagerRegister
     private VillagerRegister(Identifier id) {
         super(RegistryKeys.VILLAGER_PROFESSION, id);
         offers = createOffersFactory();
+        weightedOffers = createOffersFactory();
     }
 
     @Override
@@ -164,71 +175,124 @@ public class VillagerRegister
 
     @Override
     public VillagerPreRegistrable.VillagerTradesStage novice(TradeOffers.Factory... noviceOffer) {
-        CheckUtils.NullCheck.requireNonNull(noviceOffer);
-        offers.get(LEVEL_NOVICE).addAll(Arrays.asList(noviceOffer));
-        return this;
+        return offers(LEVEL_NOVICE, noviceOffer);
     }
 
     @Override
     public VillagerPreRegistrable.VillagerTradesStage apprentice(TradeOffers.Factory... apprenticeOffer) {
-        CheckUtils.NullCheck.requireNonNull(apprenticeOffer);
-        offers.get(LEVEL_APPRENTICE).addAll(Arrays.asList(apprenticeOffer));
-        return this;
+        return offers(LEVEL_APPRENTICE, apprenticeOffer);
     }
 
     @Override
     public VillagerPreRegistrable.VillagerTradesStage journeyman(TradeOffers.Factory... journeymanOffer) {
-        CheckUtils.NullCheck.requireNonNull(journeymanOffer);
-        offers.get(LEVEL_JOURNEYMAN).addAll(Arrays.asList(journeymanOffer));
-        return this;
+        return offers(LEVEL_JOURNEYMAN, journeymanOffer);
     }
 
     @Override
     public VillagerPreRegistrable.VillagerTradesStage expert(TradeOffers.Factory... expertOffer) {
-        CheckUtils.NullCheck.requireNonNull(expertOffer);
-        offers.get(LEVEL_EXPERT).addAll(Arrays.asList(expertOffer));
-        return this;
+        return offers(LEVEL_EXPERT, expertOffer);
     }
 
     @Override
     public VillagerPreRegistrable.VillagerTradesStage master(TradeOffers.Factory... masterOffer) {
-        CheckUtils.NullCheck.requireNonNull(masterOffer);
-        offers.get(LEVEL_MASTER).addAll(Arrays.asList(masterOffer));
+        return offers(LEVEL_MASTER, masterOffer);
+    }
+
+    @Override
+    public VillagerPreRegistrable.VillagerTradesStage offers(int level, TradeOffers.Factory... factories) {
+        CheckUtils.NullCheck.requireAllNonNull(factories);
+        levelOffers(this.offers, level).addAll(List.of(factories));
         return this;
     }
 
+    @Override
+    public VillagerPreRegistrable.VillagerTradesStage weighted(int level, int weight, TradeOffers.Factory... factories) {
+        CheckUtils.NullCheck.requireAllNonNull(factories);
+        List<CompiledTradeTable.WeightedFactory> levelOffers = levelOffers(this.weightedOffers, level);
+        for (TradeOffers.Factory factory : factories) {
+            levelOffers.add(new CompiledTradeTable.WeightedFactory(factory, weight));
+        }
+        return this;
+    }
+
+    private static <T> List<T> levelOffers(Map<Integer, List<T>> offers, int level) {
+        List<T> levelOffers = offers.get(level);
+        if (levelOffers == null) {
+            throw new IllegalArgumentException(
+                "Villager level must be between " + LEVEL_NOVICE + " and " + LEVEL_MASTER + ", got " + level
+            );
+        }
+        return levelOffers;
+    }
+
     @Override
     public VillagerPostRegistrable register() {
-        VillagerProfession profession = new VillagerProfession(
-            Text.translatable(villagerTranslateKey(this.id)),
-            this.heldWorkstation,
-            this.acquirableWorkstation,
-            this.gatherableItems,
-            this.secondaryJobSites,
-            this.workSound
-        );
+        return profiled(() -> {
+            this.predicates = new CompiledProfessionPredicates(this.heldWorkstation, this.acquirableWorkstation);
+            VillagerProfession profession = new VillagerProfession(
+                Text.translatable(villagerTranslateKey(this.id)),
+                this.predicates.heldWorkstation(),
+                this.predicates.acquirableWorkstation(),
+                this.gatherableItems,
+                this.secondaryJobSites,
+                this.workSound
+            );
 
-        this.thing = Registry.register(Registries.VILLAGER_PROFESSION, this.id, profession);
+            this.tradeTable = CompiledTradeTable.compile(this.weightedOffers);
+            this.thing = commit(() -> {
+                VillagerProfession registered = Registry.register(Registries.VILLAGER_PROFESSION, this.id, profession);
+                buildOffers();
+                return registered;
+            });
 
-        buildOffers();
+            return this;
+        });
+    }
 
-        return this;
+    /**
+     * Drops the trade offers, which have been handed to the vanilla trade pools or compiled into
+     * the {@link CompiledTradeTable} at registration, and the sets held by the registered
+     * {@link VillagerProfession} itself.
+     */
+    @Override
+    protected void releaseBuilderState() {
+        this.offers = Map.of();
+        this.weightedOffers = Map.of();
+        this.gatherableItems = ImmutableSet.of();
+        this.secondaryJobSites = ImmutableSet.of();
     }
 
+    /**
+     * Registers, for each level having offers, every plain factory of the level and a single
+     * {@link TradeTableSlotFactory} drawing from the weighted group of the level, if any.
+     */
     private void buildOffers() {
-        buildLevelOffers(LEVEL_NOVICE);
-        buildLevelOffers(LEVEL_APPRENTICE);
-        buildLevelOffers(LEVEL_JOURNEYMAN);
-        buildLevelOffers(LEVEL_EXPERT);
-        buildLevelOffers(LEVEL_MASTER);
-    }
-
-    private void buildLevelOffers(int level) {
-        TradeOfferHelper.registerVillagerOffers(
-            this.registryKey,
-            level,
-            factories -> factories.addAll(offers.get(level))
-        );
+        for (int level = LEVEL_NOVICE; level <= LEVEL_MASTER; level++) {
+            List<TradeOffers.Factory> levelOffers = this.offers.get(level);
+            CompiledTradeTable.Level weightedLevelOffers = this.tradeTable.level(level);
+            if (levelOffers.isEmpty() && weightedLevelOffers.size() == 0) continue;
+
+            TradeOfferHelper.registerVillagerOffers(
+                this.registryKey,
+                level,
+                factories -> {
+                    factories.addAll(levelOffers);
+                    if (weightedLevelOffers.size() > 0) {
+                        factories.add(new TradeTableSlotFactory(weightedLevelOffers));
+                    }
+                }
+            );
+        }
+    }
+
+    @Override
+    public CompiledTradeTable getTradeTable() {
+        return tradeTable;
+    }
+
+    @Override
+    public CompiledProfessionPredicates getPredicates() {
+        return predicates;
     }
 
     static Function<Identifier, String> TRANSLATE_KEY =
@@ -1,7 +1,9 @@
 package io.github.piscescup.mc.fabric.test.item;
 
 import io.github.piscescup.mc.fabric.Registered;
+import io.github.piscescup.mc.fabric.register.DeferredHandle;
 import io.github.piscescup.mc.fabric.register.item.BlockItemRegister;
+import io.github.piscescup.mc.fabric.register.item.ItemPostRegistrable;
 import io.github.piscescup.mc.fabric.register.item.ItemRegister;
 import io.github.piscescup.mc.fabric.test.block.PCDevLibTestBlocks;
 import io.github.piscescup.mc.fabric.test.item.custom.TestCustomItem;
@@ -49,4 +51,14 @@ public final class PCDevLibTestItems implements Registered {
         .register()
         .get();
 
+    public static final DeferredHandle<Item, ItemPostRegistrable> DEFERRED_TEST_ITEM = ItemRegister.createForItem(MOD_ID, "deferred_test_item")
+        .setting(new Item.Settings()
+            .maxCount(64)
+        )
+        .registerDeferred()
+        .then(post -> post
+            .translate(MCLanguageOption.EN_US, "PCDevLib Deferred Test Item")
+            .translate(MCLanguageOption.ZH_CN, "PCDevLib 延迟注册测试物品")
+        );
+
 }
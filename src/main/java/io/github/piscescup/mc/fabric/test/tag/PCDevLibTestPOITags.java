@@ -3,6 +3,7 @@ package io.github.piscescup.mc.fabric.test.tag;
 import io.github.piscescup.mc.fabric.Registered;
 import io.github.piscescup.mc.fabric.register.tag.TagKeyRegister;
 import io.github.piscescup.mc.fabric.test.poi.PCDevLibTestPOIs;
+import net.minecraft.registry.tag.PointOfInterestTypeTags;
 import net.minecraft.registry.tag.TagKey;
 import net.minecraft.world.poi.PointOfInterestType;
 
@@ -12,7 +13,7 @@ import net.minecraft.world.poi.PointOfInterestType;
  * @since 1.0.0
  */
 public final class PCDevLibTestPOITags implements Registered {
-    public static final TagKey<PointOfInterestType> JOB = TagKeyRegister.VANILLA_ACQUIRABLE_JOB_SITE
+    public static final TagKey<PointOfInterestType> JOB = TagKeyRegister.createForTagKey(PointOfInterestTypeTags.ACQUIRABLE_JOB_SITE)
         .addRegistryKey(PCDevLibTestPOIs.TEST_VILLAGER_POI)
         .register()
         .get();
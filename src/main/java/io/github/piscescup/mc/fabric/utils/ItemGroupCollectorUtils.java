@@ -2,11 +2,16 @@ package io.github.piscescup.mc.fabric.utils;
 
 import net.minecraft.item.ItemGroup;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.StringJoiner;
 import java.util.function.Consumer;
 
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+
 /**
  *
  * @author REN YuanTong
@@ -22,6 +27,58 @@ public final class ItemGroupCollectorUtils {
     public static final ItemGroup.EntryCollector ENTRY_COLLECTOR =
         (displayContext, entries) -> {};
 
+    /**
+     * An entry collector running a flat array of collectors in sequence.
+     * <p>
+     * Composing collectors through {@link #andThen} or {@link #scheduleEntryCollector} concatenates
+     * their arrays instead of nesting lambdas, so running hundreds of collectors is a single loop
+     * rather than a call chain as deep as the number of collectors. When debug logging is enabled,
+     * the time spent in each collector is logged.
+     */
+    public static final class CompositeEntryCollector implements ItemGroup.EntryCollector {
+        private final ItemGroup.EntryCollector[] collectors;
+
+        private CompositeEntryCollector(ItemGroup.EntryCollector[] collectors) {
+            this.collectors = collectors;
+        }
+
+        /**
+         * Returns the number of collectors run by this composite.
+         *
+         * @return the number of collectors
+         */
+        public int size() {
+            return this.collectors.length;
+        }
+
+        @Override
+        public void accept(ItemGroup.DisplayContext displayContext, ItemGroup.Entries entries) {
+            if (MOD_LOGGER.isDebugEnabled()) {
+                this.acceptTimed(displayContext, entries);
+                return;
+            }
+
+            for (ItemGroup.EntryCollector collector : this.collectors) {
+                collector.accept(displayContext, entries);
+            }
+        }
+
+        private void acceptTimed(ItemGroup.DisplayContext displayContext, ItemGroup.Entries entries) {
+            long[] nanos = new long[this.collectors.length];
+            for (int i = 0; i < this.collectors.length; i++) {
+                long start = System.nanoTime();
+                this.collectors[i].accept(displayContext, entries);
+                nanos[i] = System.nanoTime() - start;
+            }
+
+            StringJoiner joiner = new StringJoiner(", ");
+            for (int i = 0; i < this.collectors.length; i++) {
+                joiner.add("#" + i + " " + this.collectors[i].getClass().getSimpleName() + " " + nanos[i] / 1_000L + " us");
+            }
+            MOD_LOGGER.debug("Entry collectors ({}): {}", this.collectors.length, joiner);
+        }
+    }
+
     /**
      * Compose two entry collectors into one.
      * @param first The first entry collector to be executed.
@@ -36,10 +93,7 @@ public final class ItemGroupCollectorUtils {
         Objects.requireNonNull(first);
         Objects.requireNonNull(after);
 
-        return (enabledFeatures, entries) -> {
-            first.accept(enabledFeatures, entries);
-            after.accept(enabledFeatures, entries);
-        };
+        return compose(List.of(first, after));
     }
 
     /**
@@ -53,9 +107,30 @@ public final class ItemGroupCollectorUtils {
     ) {
         Objects.requireNonNull(collectors);
 
-        return collectors.stream()
-            .filter(Objects::nonNull)
-            .reduce(ENTRY_COLLECTOR, ItemGroupCollectorUtils::andThen);
+        return compose(collectors);
+    }
+
+    /**
+     * Flattens the given collectors, and the collectors of the composites among them, into a
+     * single {@link CompositeEntryCollector}, skipping {@link #ENTRY_COLLECTOR} and nulls.
+     */
+    private static ItemGroup.EntryCollector compose(Collection<ItemGroup.EntryCollector> collectors) {
+        List<ItemGroup.EntryCollector> flattened = new ArrayList<>();
+        for (ItemGroup.EntryCollector collector : collectors) {
+            if (collector == null || collector == ENTRY_COLLECTOR) continue;
+
+            if (collector instanceof CompositeEntryCollector composite) {
+                flattened.addAll(Arrays.asList(composite.collectors));
+            } else {
+                flattened.add(collector);
+            }
+        }
+
+        return switch (flattened.size()) {
+            case 0 -> ENTRY_COLLECTOR;
+            case 1 -> flattened.getFirst();
+            default -> new CompositeEntryCollector(flattened.toArray(ItemGroup.EntryCollector[]::new));
+        };
     }
 
     /**
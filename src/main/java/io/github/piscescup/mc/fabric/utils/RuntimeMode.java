@@ -0,0 +1,47 @@
+package io.github.piscescup.mc.fabric.utils;
+
+/**
+ * The mode the game is currently running in, as far as the library is concerned.
+ *
+ * <p>Some registration state, such as tag contents and translations, is only ever read by the
+ * data generators. The library uses the current mode to decide whether such state must be kept
+ * after the bootstrap.
+ *
+ * @author REN YuanTong
+ * @since 1.0.0
+ */
+public enum RuntimeMode {
+    /**
+     * The game was launched to run the data generators.
+     */
+    DATAGEN,
+    /**
+     * The game was launched as a regular client or server.
+     */
+    RUNTIME;
+
+    /**
+     * The system property set by the Fabric data generation API when running the data generators.
+     */
+    public static final String DATAGEN_PROPERTY = "fabric-api.datagen";
+
+    private static final RuntimeMode CURRENT = System.getProperty(DATAGEN_PROPERTY) != null ? DATAGEN : RUNTIME;
+
+    /**
+     * Returns the mode of the running game.
+     *
+     * @return the current mode
+     */
+    public static RuntimeMode current() {
+        return CURRENT;
+    }
+
+    /**
+     * Returns whether the data generators are running.
+     *
+     * @return {@code true} in {@link #DATAGEN} mode
+     */
+    public static boolean isDataGeneration() {
+        return CURRENT == DATAGEN;
+    }
+}
@@ -1,12 +1,28 @@
 package io.github.piscescup.mc.fabric.utils.constant;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import io.github.piscescup.mc.fabric.datagen.DataGenOption;
 import io.github.piscescup.mc.fabric.datagen.lang.LanguageDataGenProvider;
+import io.github.piscescup.mc.fabric.datagen.lang.Translation;
 import net.fabricmc.fabric.api.datagen.v1.FabricDataGenerator;
 import net.minecraft.data.DataProvider;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * <h2>Description</h2>
@@ -692,6 +708,38 @@ public enum MCLanguageOption implements DataGenOption {
 
     public static final MCLanguageOption[] LANGUAGES = MCLanguageOption.values();
 
+    private static final Map<String, MCLanguageOption> BY_CODE = Arrays.stream(LANGUAGES)
+        .collect(Collectors.toUnmodifiableMap(MCLanguageOption::getCode, Function.identity()));
+
+    /**
+     * The direct fallback of every language, indexed by ordinal; {@code null} falls back to {@link #EN_US}.
+     */
+    private static final MCLanguageOption[] FALLBACKS = new MCLanguageOption[LANGUAGES.length];
+
+    /**
+     * The resolved fallback chains, indexed by ordinal and computed lazily; replaced whenever a fallback changes.
+     */
+    private static volatile List<MCLanguageOption>[] fallbackChains = newFallbackChains();
+
+    static {
+        FALLBACKS[ZH_HK.ordinal()] = ZH_TW;
+        FALLBACKS[ZH_TW.ordinal()] = ZH_CN;
+        FALLBACKS[LZH.ordinal()] = ZH_TW;
+        FALLBACKS[EN_AU.ordinal()] = EN_GB;
+        FALLBACKS[EN_NZ.ordinal()] = EN_GB;
+        FALLBACKS[DE_AT.ordinal()] = DE_DE;
+        FALLBACKS[DE_CH.ordinal()] = DE_DE;
+        FALLBACKS[FR_CA.ordinal()] = FR_FR;
+        FALLBACKS[NL_BE.ordinal()] = NL_NL;
+        FALLBACKS[PT_PT.ordinal()] = PT_BR;
+        FALLBACKS[ES_AR.ordinal()] = ES_MX;
+        FALLBACKS[ES_CL.ordinal()] = ES_MX;
+        FALLBACKS[ES_EC.ordinal()] = ES_MX;
+        FALLBACKS[ES_UY.ordinal()] = ES_MX;
+        FALLBACKS[ES_VE.ordinal()] = ES_MX;
+        FALLBACKS[ES_MX.ordinal()] = ES_ES;
+    }
+
     MCLanguageOption(String code) {
         this.code = code;
     }
@@ -700,19 +748,159 @@ public enum MCLanguageOption implements DataGenOption {
         return code;
     }
 
+    /**
+     * Returns the language with the given code, or {@link #EN_US} if there is none.
+     *
+     * @param code the language code, e.g. {@code "zh_cn"}
+     * @return the matching language, or {@link #EN_US}
+     * @see #findByLangCode(String)
+     */
     public static MCLanguageOption fromLangCode(String code) {
-        return Arrays.stream(LANGUAGES)
-            .filter(lang -> lang.getCode().equals(code))
-            .findFirst()
-            .orElse(EN_US);
+        return findByLangCode(code).orElse(EN_US);
+    }
+
+    /**
+     * Returns the language with the given code.
+     *
+     * @param code the language code, e.g. {@code "zh_cn"}
+     * @return the matching language, or empty if there is none
+     */
+    public static Optional<MCLanguageOption> findByLangCode(@Nullable String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(BY_CODE.get(code));
+    }
+
+    /**
+     * Returns the language this language falls back to when a translation is missing.
+     *
+     * @return the direct fallback, or empty for {@link #EN_US}
+     */
+    public Optional<MCLanguageOption> getFallback() {
+        if (this == EN_US) return Optional.empty();
+        synchronized (FALLBACKS) {
+            MCLanguageOption fallback = FALLBACKS[this.ordinal()];
+            return Optional.of(fallback == null ? EN_US : fallback);
+        }
+    }
+
+    /**
+     * Returns this language followed by its fallbacks, nearest first, always ending with {@link #EN_US},
+     * e.g. {@code [zh_hk, zh_tw, zh_cn, en_us]}.
+     *
+     * <p>The chain is resolved once and cached until a fallback changes.
+     *
+     * @return the immutable fallback chain
+     */
+    public List<MCLanguageOption> getFallbackChain() {
+        List<MCLanguageOption>[] chains = fallbackChains;
+        List<MCLanguageOption> chain = chains[this.ordinal()];
+        if (chain == null) {
+            chain = this.resolveFallbackChain();
+            chains[this.ordinal()] = chain;
+        }
+        return chain;
+    }
+
+    /**
+     * Sets the language the given language falls back to when a translation is missing.
+     *
+     * @param lang     the language
+     * @param fallback the direct fallback, or {@code null} to fall back to {@link #EN_US}
+     * @throws IllegalArgumentException if {@code lang} is {@link #EN_US}, or if the fallback would form a cycle
+     */
+    public static void setFallback(@NotNull MCLanguageOption lang, @Nullable MCLanguageOption fallback) {
+        if (lang == EN_US) {
+            throw new IllegalArgumentException("en_us is the root of every fallback chain and cannot fall back.");
+        }
+
+        synchronized (FALLBACKS) {
+            for (MCLanguageOption current = fallback; current != null; current = FALLBACKS[current.ordinal()]) {
+                if (current == lang) {
+                    throw new IllegalArgumentException(
+                        "Falling back from " + lang.code + " to " + fallback.code + " would form a cycle."
+                    );
+                }
+            }
+            FALLBACKS[lang.ordinal()] = fallback == EN_US ? null : fallback;
+            fallbackChains = newFallbackChains();
+        }
+    }
+
+    private List<MCLanguageOption> resolveFallbackChain() {
+        List<MCLanguageOption> chain = new ArrayList<>();
+        synchronized (FALLBACKS) {
+            for (MCLanguageOption current = this; current != null; current = FALLBACKS[current.ordinal()]) {
+                chain.add(current);
+            }
+        }
+        if (this != EN_US) chain.add(EN_US);
+        return Collections.unmodifiableList(chain);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<MCLanguageOption>[] newFallbackChains() {
+        return (List<MCLanguageOption>[]) new List<?>[LANGUAGES.length];
     }
 
     @Override
     public FabricDataGenerator.Pack.@NotNull RegistryDependentFactory<DataProvider> toRegistryDependentFactory() {
+        return this.toRegistryDependentFactory(false);
+    }
+
+    @Override
+    public Optional<HashCode> computeInputHash() {
+        return this.computeInputHash(false);
+    }
+
+    /**
+     * Computes a stable hash of the translations the provider of this language writes.
+     *
+     * @param fillFromFallbacks whether the provider fills missing keys from the fallback chain,
+     *                          making the in-memory translations of the fallback languages inputs
+     *                          as well; their language files are not read by the provider
+     * @return the input hash, or empty if an existing language file cannot be read
+     * @see #toRegistryDependentFactory(boolean)
+     */
+    public Optional<HashCode> computeInputHash(boolean fillFromFallbacks) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        List<MCLanguageOption> sources = fillFromFallbacks ? this.getFallbackChain() : List.of(this);
+
+        for (MCLanguageOption source : sources) {
+            if (source == EN_US && source != this) break;
+
+            hasher.putString(source.code, StandardCharsets.UTF_8).putByte((byte) 0);
+            // The provider only reads the language files of its own language.
+            if (source == this) {
+                try {
+                    for (Path languageFile : Translation.getLanguageFiles(source)) {
+                        hasher.putBytes(Files.readAllBytes(languageFile));
+                    }
+                } catch (IOException e) {
+                    return Optional.empty();
+                }
+            }
+            Translation.forEachTranslation(source, (key, value) -> hasher
+                .putString(key, StandardCharsets.UTF_8).putByte((byte) 0)
+                .putString(value, StandardCharsets.UTF_8).putByte((byte) 0)
+            );
+        }
+        return Optional.of(hasher.hash());
+    }
+
+    /**
+     * Converts this language into a factory of its {@link LanguageDataGenProvider}.
+     *
+     * @param fillFromFallbacks whether translations missing in this language are filled from its
+     *                          {@link #getFallbackChain() fallback chain}
+     * @return the provider factory
+     */
+    public FabricDataGenerator.Pack.@NotNull RegistryDependentFactory<DataProvider> toRegistryDependentFactory(
+        boolean fillFromFallbacks
+    ) {
         return (dataOutput, registryLookup) -> new LanguageDataGenProvider(
             dataOutput,
             this,
-            registryLookup
+            registryLookup,
+            fillFromFallbacks
         );
     }
 
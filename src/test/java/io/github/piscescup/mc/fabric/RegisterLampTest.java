@@ -0,0 +1,185 @@
+package io.github.piscescup.mc.fabric;
+
+import io.github.piscescup.mc.fabric.register.PostRegistrable;
+import io.github.piscescup.mc.fabric.register.Register;
+import io.github.piscescup.mc.fabric.register.RegistrationCapture;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class RegisterLampTest {
+
+    private static final List<String> REGISTERED = new CopyOnWriteArrayList<>();
+
+    static class ModuleA implements Registered {
+        @Override
+        public void register(String modName) {
+            REGISTERED.add("A");
+        }
+    }
+
+    static class ModuleB implements Registered {
+        @Override
+        public void register(String modName) {
+            REGISTERED.add("B");
+        }
+    }
+
+    static class ModuleC implements Registered {
+        @Override
+        public void register(String modName) {
+            REGISTERED.add("C");
+        }
+    }
+
+    @Test
+    public void testDependencyOrder() {
+        for (int parallelism : new int[] {1, 4}) {
+            REGISTERED.clear();
+            RegisterLamp.create()
+                .addModule(ModuleC.class, ModuleC::new, ModuleA.class, ModuleB.class)
+                .addModule(ModuleB.class, ModuleB::new, ModuleA.class)
+                .addModule(ModuleA.class, ModuleA::new)
+                .parallelism(parallelism)
+                .registerAll("test");
+
+            assertEquals(List.of("A", "B", "C"), REGISTERED);
+        }
+    }
+
+    @Test
+    public void testCycleDetection() {
+        RegisterLamp lamp = RegisterLamp.create()
+            .addModule(ModuleA.class, ModuleA::new, ModuleB.class)
+            .addModule(ModuleB.class, ModuleB::new, ModuleA.class);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> lamp.registerAll("test"));
+        assertTrue(e.getMessage().contains("ModuleA"));
+        assertTrue(e.getMessage().contains("ModuleB"));
+    }
+
+    @Test
+    public void testMissingDependency() {
+        RegisterLamp lamp = RegisterLamp.create()
+            .addModule(ModuleC.class, ModuleC::new, ModuleA.class);
+
+        assertThrows(IllegalStateException.class, () -> lamp.registerAll("test"));
+    }
+
+    /**
+     * The raw ids given by {@link OrderRegister}, in registration order.
+     */
+    private static final List<String> RAW_ID_ORDER = new CopyOnWriteArrayList<>();
+
+    private static final int ENTRIES_PER_MODULE = 25;
+
+    interface OrderPostRegistrable extends PostRegistrable<String, OrderPostRegistrable, OrderRegister> {}
+
+    static class OrderRegister
+        extends Register<String, OrderPostRegistrable, OrderRegister>
+        implements OrderPostRegistrable
+    {
+        OrderRegister(String path) {
+            super(RegistryKey.ofRegistry(Identifier.of("test", "order")), Identifier.of("test", path));
+        }
+
+        @Override
+        public OrderPostRegistrable register() {
+            return profiled(() -> {
+                this.thing = commit(() -> {
+                    RAW_ID_ORDER.add(this.id.getPath());
+                    return this.id.getPath();
+                });
+                return this;
+            });
+        }
+    }
+
+    abstract static class OrderModule implements Registered {
+        final List<OrderPostRegistrable> entries = new ArrayList<>();
+
+        OrderModule(String prefix) {
+            for (int i = 0; i < ENTRIES_PER_MODULE; i++) {
+                LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(50_000L));
+                this.entries.add(new OrderRegister(prefix + "_" + i).register());
+            }
+        }
+
+        @Override
+        public void register(String modName) {
+        }
+    }
+
+    static class OrderModuleA extends OrderModule {
+        static volatile OrderPostRegistrable first;
+
+        OrderModuleA() {
+            super("a");
+            first = this.entries.getFirst();
+        }
+    }
+
+    static class OrderModuleB extends OrderModule {
+        OrderModuleB() {
+            super("b");
+        }
+    }
+
+    static class OrderModuleC extends OrderModule {
+        OrderModuleC() {
+            super("c");
+        }
+    }
+
+    static class OrderModuleD extends OrderModule {
+        OrderModuleD() {
+            super("d");
+            // Registered by a dependency, so already committed.
+            assertEquals("a_0", OrderModuleA.first.get());
+        }
+    }
+
+    private static List<String> registerOrderModules(int parallelism) {
+        RAW_ID_ORDER.clear();
+        RegisterLamp.create()
+            .addModule(OrderModuleA.class, OrderModuleA::new)
+            .addModule(OrderModuleB.class, OrderModuleB::new)
+            .addModule(OrderModuleC.class, OrderModuleC::new)
+            .addModule(OrderModuleD.class, OrderModuleD::new, OrderModuleA.class)
+            .parallelism(parallelism)
+            .registerAll("test");
+        return List.copyOf(RAW_ID_ORDER);
+    }
+
+    @Test
+    public void testParallelRegistrationOrder() {
+        List<String> sequential = registerOrderModules(1);
+        assertEquals(4 * ENTRIES_PER_MODULE, sequential.size());
+
+        for (int run = 0; run < 8; run++) {
+            assertEquals(sequential, registerOrderModules(4));
+        }
+    }
+
+    @Test
+    public void testCapturedEntryIsNotAvailableBeforeCommit() {
+        OrderPostRegistrable[] captured = new OrderPostRegistrable[1];
+        RegistrationCapture.Captured<Void> capture = RegistrationCapture.capture(() -> {
+            captured[0] = new OrderRegister("captured").register();
+            return null;
+        });
+
+        assertThrows(IllegalStateException.class, captured[0]::get);
+        capture.commit();
+        assertEquals("captured", captured[0].get());
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.piscescup.mc.fabric.datagen.lang;
+
+import com.google.common.hash.HashCode;
+import io.github.piscescup.mc.fabric.utils.constant.MCLanguageOption;
+import net.fabricmc.fabric.api.datagen.v1.provider.FabricLanguageProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class LanguageDataGenProviderTest {
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    public void useFullStore() {
+        Translation.setStoreMode(Translation.StoreMode.FULL);
+    }
+
+    @AfterEach
+    public void restoreStoreMode() {
+        Translation.setStoreMode(Translation.StoreMode.defaultMode());
+    }
+
+    /**
+     * Rejects duplicate keys, as the builder given by {@link FabricLanguageProvider} does.
+     */
+    private static FabricLanguageProvider.TranslationBuilder collectInto(Map<String, String> translations) {
+        return (key, value) -> {
+            if (translations.putIfAbsent(key, value) != null) {
+                throw new RuntimeException("Existing translation key found - " + key + " - Duplicate will be ignored.");
+            }
+        };
+    }
+
+    @Test
+    public void testLanguageFileWinsOverFallbacks() throws IOException {
+        Path languageFile = Files.writeString(
+            this.directory.resolve("zh_hk.json"),
+            "{\"item.pc-dev-lib.shared\": \"File\", \"item.pc-dev-lib.file_only\": \"File only\"}"
+        );
+        Translation.putTranslation(languageFile, MCLanguageOption.ZH_HK, "");
+        Translation.putTranslation("item.pc-dev-lib.shared", MCLanguageOption.ZH_HK, "Hong Kong");
+        Translation.putTranslation("item.pc-dev-lib.shared", MCLanguageOption.ZH_CN, "Simplified");
+        Translation.putTranslation("item.pc-dev-lib.cn_only", MCLanguageOption.ZH_CN, "Simplified only");
+
+        Map<String, String> translations = new LinkedHashMap<>();
+        LanguageDataGenProvider.writeTranslations(MCLanguageOption.ZH_HK, true, collectInto(translations));
+
+        assertEquals(
+            Map.of(
+                "item.pc-dev-lib.shared", "File",
+                "item.pc-dev-lib.file_only", "File only",
+                "item.pc-dev-lib.cn_only", "Simplified only"
+            ),
+            translations
+        );
+    }
+
+    @Test
+    public void testFallbackLanguageFilesDoNotChangeTheHash() throws IOException {
+        Path languageFile = Files.writeString(this.directory.resolve("zh_cn.json"), "{\"item.pc-dev-lib.a\": \"A\"}");
+        Translation.putTranslation(languageFile, MCLanguageOption.ZH_CN, "");
+        Translation.putTranslation("item.pc-dev-lib.b", MCLanguageOption.ZH_CN, "B");
+
+        Optional<HashCode> fallback = MCLanguageOption.ZH_HK.computeInputHash(true);
+        Optional<HashCode> own = MCLanguageOption.ZH_CN.computeInputHash(true);
+        Files.writeString(languageFile, "{\"item.pc-dev-lib.a\": \"Changed\"}");
+
+        assertTrue(fallback.isPresent());
+        assertEquals(fallback, MCLanguageOption.ZH_HK.computeInputHash(true));
+        assertNotEquals(own, MCLanguageOption.ZH_CN.computeInputHash(true));
+    }
+}
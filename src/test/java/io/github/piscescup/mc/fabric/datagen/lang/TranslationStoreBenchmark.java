@@ -0,0 +1,86 @@
+package io.github.piscescup.mc.fabric.datagen.lang;
+
+import io.github.piscescup.mc.fabric.utils.constant.MCLanguageOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static io.github.piscescup.mc.fabric.References.MOD_LOGGER;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * Measures the per-entry allocation and retained heap of every {@link Translation.StoreMode}.
+ * <p>
+ * Tagged {@code benchmark}, so it only runs with {@code ./gradlew benchmark}: the retained heap
+ * comes from full garbage collections and is only logged, never asserted. What each mode keeps
+ * is covered by {@link TranslationStoreTest}.
+ */
+@Tag("benchmark")
+class TranslationStoreBenchmark {
+    private static final int ENTRIES = 10_000;
+
+    private static final int WARMUP_ROUNDS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final String[] KEYS = new String[ENTRIES];
+
+    static {
+        for (int i = 0; i < ENTRIES; i++) {
+            KEYS[i] = "item.pc-dev-lib.benchmark_" + i;
+        }
+    }
+
+    record Sample(Translation.StoreMode mode, double allocatedPerEntry, double retainedPerEntry) {
+        @Override
+        public String toString() {
+            return String.format("%-8s %10.1f B/entry allocated %10.1f B/entry retained", mode, allocatedPerEntry, retainedPerEntry);
+        }
+    }
+
+    @AfterEach
+    public void restoreStoreMode() {
+        Translation.setStoreMode(Translation.StoreMode.defaultMode());
+    }
+
+    @Test
+    public void benchmarkStoreModes() {
+        Sample discard = measure(Translation.StoreMode.DISCARD);
+        Sample full = measure(Translation.StoreMode.FULL);
+
+        MOD_LOGGER.info("Translation store modes:\n  {}\n  {}", discard, full);
+
+        assertTrue(discard.allocatedPerEntry() < full.allocatedPerEntry());
+    }
+
+    private static Sample measure(Translation.StoreMode mode) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            Translation.setStoreMode(mode);
+            fill();
+        }
+
+        Translation.setStoreMode(mode);
+        long heapBefore = usedHeapAfterGc();
+        long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        fill();
+        long allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        long retained = Math.max(usedHeapAfterGc() - heapBefore, 0L);
+
+        return new Sample(mode, (double) allocated / ENTRIES, (double) retained / ENTRIES);
+    }
+
+    private static void fill() {
+        for (String key : KEYS) {
+            Translation.putTranslation(key, MCLanguageOption.EN_US, "Benchmark");
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
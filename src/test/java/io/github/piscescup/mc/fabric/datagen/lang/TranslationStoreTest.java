@@ -0,0 +1,76 @@
+package io.github.piscescup.mc.fabric.datagen.lang;
+
+import io.github.piscescup.mc.fabric.utils.constant.MCLanguageOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class TranslationStoreTest {
+    private static final int ENTRIES = 10_000;
+
+    private static final Path LANGUAGE_FILE = Path.of("lang", "en_us.json");
+
+    @AfterEach
+    public void restoreStoreMode() {
+        Translation.setStoreMode(Translation.StoreMode.defaultMode());
+    }
+
+    @Test
+    public void testDiscardKeepsNothing() {
+        Translation.setStoreMode(Translation.StoreMode.DISCARD);
+        fill();
+        Translation.putTranslation(LANGUAGE_FILE, MCLanguageOption.EN_US, "");
+
+        assertTrue(Translation.getLangTranslations(MCLanguageOption.EN_US).isEmpty());
+        assertTrue(Translation.getLanguageFiles(MCLanguageOption.EN_US).isEmpty());
+    }
+
+    @Test
+    public void testFullKeepsEveryEntry() {
+        Translation.setStoreMode(Translation.StoreMode.FULL);
+        fill();
+        Translation.putTranslation(LANGUAGE_FILE, MCLanguageOption.EN_US, "");
+
+        List<Translation.TranslationEntry> entries = Translation.getLangTranslations(MCLanguageOption.EN_US);
+        assertEquals(ENTRIES, entries.size());
+        assertEquals(new Translation.TranslationEntry("item.pc-dev-lib.entry_0", "Entry 0"), entries.getFirst());
+        assertEquals(new Translation.TranslationEntry("item.pc-dev-lib.entry_9999", "Entry 9999"), entries.getLast());
+        assertEquals(List.of(LANGUAGE_FILE), Translation.getLanguageFiles(MCLanguageOption.EN_US));
+        assertTrue(Translation.getLangTranslations(MCLanguageOption.ZH_CN).isEmpty());
+    }
+
+    @Test
+    public void testFullKeepsInsertionOrder() {
+        Translation.setStoreMode(Translation.StoreMode.FULL);
+        Translation.putTranslation("item.pc-dev-lib.first", MCLanguageOption.EN_US, "First");
+        Translation.putTranslation("item.pc-dev-lib.second", MCLanguageOption.EN_US, "Second");
+
+        assertEquals(
+            List.of(
+                new Translation.TranslationEntry("item.pc-dev-lib.first", "First"),
+                new Translation.TranslationEntry("item.pc-dev-lib.second", "Second")
+            ),
+            Translation.getLangTranslations(MCLanguageOption.EN_US)
+        );
+    }
+
+    @Test
+    public void testSwitchingModeDropsEntries() {
+        Translation.setStoreMode(Translation.StoreMode.FULL);
+        fill();
+        Translation.setStoreMode(Translation.StoreMode.FULL);
+
+        assertTrue(Translation.getLangTranslations(MCLanguageOption.EN_US).isEmpty());
+    }
+
+    private static void fill() {
+        for (int i = 0; i < ENTRIES; i++) {
+            Translation.putTranslation("item.pc-dev-lib.entry_" + i, MCLanguageOption.EN_US, "Entry " + i);
+        }
+    }
+}
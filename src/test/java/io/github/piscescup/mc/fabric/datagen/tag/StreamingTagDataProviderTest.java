@@ -0,0 +1,94 @@
+package io.github.piscescup.mc.fabric.datagen.tag;
+
+import com.google.common.hash.HashCode;
+import com.google.gson.JsonElement;
+import com.mojang.serialization.JsonOps;
+import net.minecraft.data.DataProvider;
+import net.minecraft.data.DataWriter;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.tag.TagEntry;
+import net.minecraft.registry.tag.TagFile;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class StreamingTagDataProviderTest {
+
+    private static final RegistryKey<Registry<String>> REGISTRY = RegistryKey.ofRegistry(Identifier.of("test", "thing"));
+
+    private static final Path PATH = Path.of("data", "test", "tags", "thing", "a.json");
+
+    private static TagKey<String> tag(String path) {
+        return TagKey.of(REGISTRY, Identifier.of("test", path));
+    }
+
+    private static RegistryKey<String> key(String path) {
+        return RegistryKey.of(REGISTRY, Identifier.of("test", path));
+    }
+
+    /**
+     * Captures the single file written through it.
+     */
+    private static final class CapturingWriter implements DataWriter {
+        private byte[] data;
+        private HashCode hash;
+
+        @Override
+        public void write(Path path, byte[] data, HashCode hashCode) {
+            assertEquals(PATH, path);
+            this.data = data;
+            this.hash = hashCode;
+        }
+    }
+
+    @Test
+    public void testMatchesWriteToPath() throws IOException {
+        TagKey<String> external = TagKey.of(REGISTRY, Identifier.of("minecraft", "external"));
+        TagGraph<String> graph = new TagGraph<String>()
+            .addIncludes(tag("a"), List.of(tag("b"), external))
+            .addMembers(tag("a"), List.of(key("z"), key("x"), key("y")))
+            .addMember(tag("b"), key("w"));
+        TagGraph.Contents<String> contents = graph.getContents(tag("a"));
+
+        CapturingWriter streamed = new CapturingWriter();
+        StreamingTagDataProvider.write(streamed, PATH, contents);
+
+        List<TagEntry> entries = new ArrayList<>();
+        contents.tags().forEach(included -> entries.add(TagEntry.createOptionalTag(included.id())));
+        contents.members().forEach(member -> entries.add(TagEntry.createOptional(member.getValue())));
+        JsonElement json = TagFile.CODEC.encodeStart(JsonOps.INSTANCE, new TagFile(entries, false)).getOrThrow();
+
+        CapturingWriter vanilla = new CapturingWriter();
+        DataProvider.writeToPath(vanilla, json, PATH).join();
+
+        assertEquals(new String(vanilla.data, StandardCharsets.UTF_8), new String(streamed.data, StandardCharsets.UTF_8));
+        assertArrayEquals(vanilla.data, streamed.data);
+        assertEquals(vanilla.hash, streamed.hash);
+        assertFalse(new String(streamed.data, StandardCharsets.UTF_8).contains("replace"));
+    }
+
+    @Test
+    public void testEmptyTagMatchesWriteToPath() throws IOException {
+        TagGraph<String> graph = new TagGraph<String>().addTag(tag("a"));
+
+        CapturingWriter streamed = new CapturingWriter();
+        StreamingTagDataProvider.write(streamed, PATH, graph.getContents(tag("a")));
+
+        JsonElement json = TagFile.CODEC.encodeStart(JsonOps.INSTANCE, new TagFile(List.of(), false)).getOrThrow();
+        CapturingWriter vanilla = new CapturingWriter();
+        DataProvider.writeToPath(vanilla, json, PATH).join();
+
+        assertArrayEquals(vanilla.data, streamed.data);
+        assertEquals(vanilla.hash, streamed.hash);
+    }
+}
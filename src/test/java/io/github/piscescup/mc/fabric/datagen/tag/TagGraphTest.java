@@ -0,0 +1,62 @@
+package io.github.piscescup.mc.fabric.datagen.tag;
+
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class TagGraphTest {
+
+    private static final RegistryKey<Registry<String>> REGISTRY = RegistryKey.ofRegistry(Identifier.of("test", "thing"));
+
+    private static TagKey<String> tag(String path) {
+        return TagKey.of(REGISTRY, Identifier.of("test", path));
+    }
+
+    private static RegistryKey<String> key(String path) {
+        return RegistryKey.of(REGISTRY, Identifier.of("test", path));
+    }
+
+    @Test
+    public void testFlatten() {
+        TagKey<String> external = TagKey.of(REGISTRY, Identifier.of("minecraft", "external"));
+        TagGraph<String> graph = new TagGraph<String>()
+            .addIncludes(tag("a"), List.of(tag("b"), tag("c")))
+            .addMembers(tag("a"), List.of(key("x"), key("x")))
+            .addIncludes(tag("b"), List.of(tag("c"), external))
+            .addMember(tag("b"), key("y"))
+            .addMembers(tag("c"), List.of(key("x"), key("z")));
+
+        assertEquals(1, graph.getDuplicateCount(tag("a")));
+        assertEquals(0, graph.getDuplicateCount(tag("c")));
+
+        Map<TagKey<String>, TagGraph.Contents<String>> flattened = graph.flatten(tag -> true);
+
+        assertEquals(Set.of(external), flattened.get(tag("a")).tags());
+        assertEquals(List.of(key("x"), key("y"), key("z")), List.copyOf(flattened.get(tag("a")).members()));
+        assertEquals(List.of(tag("a"), tag("b"), tag("c")), List.copyOf(flattened.keySet()));
+
+        Map<TagKey<String>, TagGraph.Contents<String>> partial = graph.flatten(tag -> !tag.equals(tag("c")));
+        assertEquals(List.of(tag("c"), external), List.copyOf(partial.get(tag("a")).tags()));
+    }
+
+    @Test
+    public void testCycleDetection() {
+        TagGraph<String> graph = new TagGraph<String>()
+            .addIncludes(tag("a"), List.of(tag("b")))
+            .addIncludes(tag("b"), List.of(tag("c")))
+            .addIncludes(tag("c"), List.of(tag("a")));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, graph::checkAcyclic);
+        assertTrue(e.getMessage().contains("#test:a -> #test:b -> #test:c -> #test:a"));
+        assertThrows(IllegalStateException.class, () -> graph.flatten(tag -> true));
+    }
+}
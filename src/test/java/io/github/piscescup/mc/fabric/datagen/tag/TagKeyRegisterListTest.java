@@ -0,0 +1,135 @@
+package io.github.piscescup.mc.fabric.datagen.tag;
+
+import io.github.piscescup.mc.fabric.RegisterLamp;
+import io.github.piscescup.mc.fabric.Registered;
+import io.github.piscescup.mc.fabric.register.tag.TagKeyRegister;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class TagKeyRegisterListTest {
+
+    private static final RegistryKey<Registry<String>> REGISTRY = RegistryKey.ofRegistry(Identifier.of("test", "tag_order"));
+
+    private static final int TAGS_PER_MODULE = 8;
+
+    private static RegistryKey<String> key(String path) {
+        return RegistryKey.of(REGISTRY, Identifier.of("test", path));
+    }
+
+    /**
+     * Declares a tag of its own and extends a tag shared with the other modules.
+     */
+    abstract static class TagModule implements Registered {
+        TagModule(String name) {
+            for (int i = 0; i < TAGS_PER_MODULE; i++) {
+                LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(50_000L));
+                TagKeyRegister.createFor(REGISTRY, "test", "shared_" + i)
+                    .addRegistryKey(key(name + "_" + i))
+                    .register();
+            }
+            TagKeyRegister.createFor(REGISTRY, "test", name)
+                .addRegistryKey(key(name))
+                .register();
+        }
+
+        @Override
+        public void register(String modName) {
+        }
+    }
+
+    static class TagModuleA extends TagModule {
+        TagModuleA() {
+            super("a");
+        }
+    }
+
+    static class TagModuleB extends TagModule {
+        TagModuleB() {
+            super("b");
+        }
+    }
+
+    static class TagModuleC extends TagModule {
+        TagModuleC() {
+            super("c");
+        }
+    }
+
+    static class TagModuleD extends TagModule {
+        TagModuleD() {
+            super("d");
+        }
+    }
+
+    private static List<String> registerTagModules(int parallelism) {
+        TagKeysContainer.getTagKeyRegisters(REGISTRY).clear();
+        RegisterLamp.create()
+            .addModule(TagModuleA.class, TagModuleA::new)
+            .addModule(TagModuleB.class, TagModuleB::new)
+            .addModule(TagModuleC.class, TagModuleC::new)
+            .addModule(TagModuleD.class, TagModuleD::new, TagModuleA.class)
+            .parallelism(parallelism)
+            .sealAfterRegistration(false)
+            .registerAll("test");
+
+        return TagKeysContainer.getTagKeyRegisters(REGISTRY).stream()
+            .map(register -> register.getId().getPath() + "=" + register.getKeys().iterator().next().getValue().getPath())
+            .toList();
+    }
+
+    @Test
+    public void testParallelTieBreakOrder() {
+        List<String> sequential = registerTagModules(1);
+        assertEquals(4 * (TAGS_PER_MODULE + 1), sequential.size());
+        assertEquals("a=a", sequential.getFirst());
+
+        for (int run = 0; run < 8; run++) {
+            assertEquals(sequential, registerTagModules(4));
+        }
+    }
+
+    @Test
+    public void testSharedBuilderIsQueuedOnce() throws InterruptedException {
+        TagKeyRegisterList<String> registers = TagKeysContainer.getTagKeyRegisters(REGISTRY);
+        registers.clear();
+
+        TagKeyRegister<String> shared = (TagKeyRegister<String>) TagKeyRegister.createFor(REGISTRY, "test", "concurrent");
+        int threads = 4;
+        int keysPerThread = 1_000;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < keysPerThread; i++) {
+                    shared.addRegistryKey(key(thread + "_" + i));
+                }
+                shared.register();
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(1, registers.size());
+        assertEquals(threads * keysPerThread, shared.getKeys().size());
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.piscescup.mc.fabric.register;
+
+import io.github.piscescup.mc.fabric.profiling.RegistrationProfiler;
+import io.github.piscescup.mc.fabric.profiling.SealReport;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * Measures the heap released by {@link RegisterSeal#sealAll()} for a pack registering 10k entries.
+ * <p>
+ * Tagged {@code benchmark}, so it only runs with {@code ./gradlew benchmark}: the heap figures
+ * come from full garbage collections and are only meaningful in a JVM running nothing else.
+ * The {@link SealReport} is logged by the seal itself.
+ */
+@Tag("benchmark")
+class RegisterSealBenchmark {
+    private static final int ENTRIES = 10_000;
+
+    interface HeavyPostRegistrable extends PostRegistrable<String, HeavyPostRegistrable, HeavyRegister> {}
+
+    /**
+     * A register keeping builder state comparable to a block register: a settings object with a
+     * few dozen fields, a factory lambda and a translation held until the seal.
+     */
+    static class HeavyRegister
+        extends Register<String, HeavyPostRegistrable, HeavyRegister>
+        implements HeavyPostRegistrable
+    {
+        private int[] settings = new int[32];
+        private String translation;
+        private Function<int[], String> factory;
+
+        HeavyRegister(int index) {
+            super(RegistryKey.ofRegistry(Identifier.of("test", "seal")), Identifier.of("test", "entry_" + index));
+            this.settings[0] = index;
+            this.translation = "Benchmark Entry " + index;
+            this.factory = settings -> this.id.getPath();
+        }
+
+        @Override
+        public HeavyPostRegistrable register() {
+            return profiled(() -> {
+                this.thing = commit(() -> this.factory.apply(this.settings));
+                return this;
+            });
+        }
+
+        @Override
+        protected void releaseBuilderState() {
+            this.settings = null;
+            this.translation = null;
+            this.factory = null;
+        }
+    }
+
+    @AfterEach
+    public void restoreProfiler() {
+        RegistrationProfiler.setEnabled(Boolean.getBoolean(RegistrationProfiler.ENABLED_PROPERTY));
+        RegistrationProfiler.reset();
+    }
+
+    @Test
+    public void benchmarkSealTenThousandEntries() {
+        RegisterSeal.sealAll();
+
+        List<HeavyPostRegistrable> pack = new ArrayList<>(ENTRIES);
+        for (int i = 0; i < ENTRIES; i++) {
+            pack.add(new HeavyRegister(i).register());
+        }
+
+        RegistrationProfiler.setEnabled(true);
+        SealReport report = RegisterSeal.sealAll();
+
+        assertEquals(ENTRIES, report.sealedRegisters());
+        assertEquals(ENTRIES, report.sealedByRegistry().get("test:seal"));
+        assertTrue(report.isHeapMeasured());
+        assertTrue(report.heapSavedBytes() > 0);
+
+        // The pack stays reachable, so the released bytes are only the builder state.
+        assertTrue(pack.stream().allMatch(entry -> entry.getRegister().isSealed()));
+        assertEquals("entry_0", pack.getFirst().get());
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.piscescup.mc.fabric.register.tag;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class TagMembershipIndexTest {
+    private static final long[] BITS = {0x5L, 1L << 63};
+
+    @Test
+    public void testMembership() {
+        assertTrue(TagMembershipIndex.test(BITS, 0));
+        assertFalse(TagMembershipIndex.test(BITS, 1));
+        assertTrue(TagMembershipIndex.test(BITS, 2));
+        assertTrue(TagMembershipIndex.test(BITS, 127));
+    }
+
+    @Test
+    public void testOutOfRangeIds() {
+        assertFalse(TagMembershipIndex.test(BITS, -1));
+        assertFalse(TagMembershipIndex.test(BITS, BITS.length * 64));
+        assertFalse(TagMembershipIndex.test(new long[0], 0));
+    }
+}
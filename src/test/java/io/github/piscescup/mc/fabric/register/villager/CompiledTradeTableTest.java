@@ -0,0 +1,60 @@
+package io.github.piscescup.mc.fabric.register.villager;
+
+import net.minecraft.util.math.random.Random;
+import net.minecraft.village.TradeOffers;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class CompiledTradeTableTest {
+
+    private static final TradeOffers.Factory FACTORY = (world, entity, random) -> null;
+
+    private static CompiledTradeTable.Level level(int... weights) {
+        List<CompiledTradeTable.WeightedFactory> factories = new ArrayList<>();
+        for (int weight : weights) {
+            factories.add(new CompiledTradeTable.WeightedFactory(FACTORY, weight));
+        }
+        return CompiledTradeTable.compile(Map.of(1, factories)).level(1);
+    }
+
+    @Test
+    public void testWeightedDistribution() {
+        CompiledTradeTable.Level level = level(1, 3);
+        Random random = Random.create(42L);
+
+        int[] counts = new int[2];
+        for (int i = 0; i < 40_000; i++) {
+            counts[level.sample(random)]++;
+        }
+        assertEquals(0.75, counts[1] / 40_000.0, 0.02);
+    }
+
+    @Test
+    public void testSampleExcludingDrawsEveryOfferOnce() {
+        CompiledTradeTable.Level level = level(1, 100, 1, 5, 1);
+        Random random = Random.create(7L);
+        long[] drawn = new long[level.maskLength()];
+
+        boolean[] seen = new boolean[level.size()];
+        for (int i = 0; i < level.size(); i++) {
+            int index = level.sampleExcluding(random, drawn);
+            assertFalse(seen[index]);
+            seen[index] = true;
+        }
+        assertEquals(-1, level.sampleExcluding(random, drawn));
+    }
+
+    @Test
+    public void testMissingLevelsAreEmpty() {
+        CompiledTradeTable table = CompiledTradeTable.compile(Map.of());
+        assertEquals(0, table.level(3).size());
+        assertEquals(-1, table.level(3).sample(Random.create()));
+        assertThrows(IllegalArgumentException.class, () -> new CompiledTradeTable.WeightedFactory(FACTORY, 0));
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.piscescup.mc.fabric.register.villager;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.village.TradeOffer;
+import net.minecraft.village.TradeOffers;
+import net.minecraft.village.TradedItem;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * Checks the odds reported by {@link TradeTableSimulator} against the vanilla draw of
+ * {@link CompiledTradeTable#OFFERS_PER_LEVEL} distinct pool entries, and the counts of its
+ * simulated copies and restocks.
+ * <p>
+ * The plain pools are shaped like the test profession of the library, with 3, 5, 6, 7 and 4
+ * offers from novice to master.
+ */
+class TradeTableSimulatorTest {
+    private static final int VILLAGERS = 20_000;
+
+    private static final int[] POOL_SIZES = {0, 3, 5, 6, 7, 4};
+
+    private static final TradeOffers.Factory FACTORY = (world, entity, random) -> null;
+
+    @BeforeAll
+    public static void bootstrap() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+    }
+
+    private static TradeOffers.Factory[] pool(int size) {
+        TradeOffers.Factory[] pool = new TradeOffers.Factory[size];
+        for (int i = 0; i < size; i++) {
+            pool[i] = (world, entity, random) -> null;
+        }
+        return pool;
+    }
+
+    @Test
+    public void testPlainPoolsKeepVanillaOdds() {
+        Int2ObjectMap<TradeOffers.Factory[]> pools = new Int2ObjectOpenHashMap<>();
+        for (int level = 1; level < POOL_SIZES.length; level++) {
+            pools.put(level, pool(POOL_SIZES[level]));
+        }
+
+        TradeTableSimulator.Report report = TradeTableSimulator.simulate(pools, VILLAGERS, 0, 42L);
+        assertEquals((long) VILLAGERS * (POOL_SIZES.length - 1), report.levelUps());
+        for (int level = 1; level < POOL_SIZES.length; level++) {
+            double expected = (double) CompiledTradeTable.OFFERS_PER_LEVEL / POOL_SIZES[level];
+            for (int index = 0; index < POOL_SIZES[level]; index++) {
+                assertEquals(expected, report.inclusionRate(level, index), 0.02);
+            }
+        }
+    }
+
+    @Test
+    public void testWeightedGroupTakesOnePoolEntry() {
+        CompiledTradeTable.Level group = CompiledTradeTable.compile(Map.of(1, List.of(
+            new CompiledTradeTable.WeightedFactory(FACTORY, 1),
+            new CompiledTradeTable.WeightedFactory(FACTORY, 3)
+        ))).level(1);
+        TradeOffers.Factory[] pool = pool(4);
+        pool[3] = new TradeTableSlotFactory(group);
+
+        Int2ObjectMap<TradeOffers.Factory[]> pools = new Int2ObjectOpenHashMap<>();
+        pools.put(1, pool);
+        TradeTableSimulator.Report report = TradeTableSimulator.simulate(pools, VILLAGERS, 0, 42L);
+
+        // Three plain entries and the group entry, then the two offers of the group.
+        assertEquals(6, report.offers().get(1).size());
+        assertEquals(3, report.offers().get(1).get(5).weight());
+        for (int index = 0; index < 4; index++) {
+            assertEquals(0.5, report.inclusionRate(1, index), 0.02);
+        }
+        assertEquals(0.5 * 0.25, report.inclusionRate(1, 4), 0.02);
+        assertEquals(0.5 * 0.75, report.inclusionRate(1, 5), 0.02);
+    }
+
+    @Test
+    public void testSmallPoolsAreFullyDrawn() {
+        Int2ObjectMap<TradeOffers.Factory[]> pools = new Int2ObjectOpenHashMap<>();
+        pools.put(1, pool(1));
+        pools.put(3, pool(2));
+
+        TradeTableSimulator.Report report = TradeTableSimulator.simulate(pools, 100, 0, 7L);
+        assertEquals(200, report.levelUps());
+        assertEquals(1.0, report.inclusionRate(1, 0));
+        assertEquals(1.0, report.inclusionRate(3, 0));
+        assertEquals(1.0, report.inclusionRate(3, 1));
+        assertTrue(report.offers().get(2).isEmpty());
+    }
+
+    @Test
+    public void testTemplatesAreCopiedAndRestocked() {
+        TradeOffer offer = new TradeOffer(new TradedItem(Items.EMERALD, 1), new ItemStack(Items.BREAD), 16, 2, 0.05f);
+        Int2ObjectMap<TradeOffers.Factory[]> pools = new Int2ObjectOpenHashMap<>();
+        pools.put(1, new TradeOffers.Factory[] {TradeOfferTemplate.of(offer), FACTORY});
+        pools.put(2, new TradeOffers.Factory[] {TradeOfferTemplate.of(offer)});
+
+        TradeTableSimulator.Report report = TradeTableSimulator.simulate(pools, 100, 3, 7L);
+        assertEquals(200, report.copiedOffers());
+        assertEquals(100, report.unbuiltDraws());
+        assertEquals(600, report.restocks());
+        assertTrue(report.trades() > 0);
+        assertEquals(0, offer.getUses());
+    }
+}
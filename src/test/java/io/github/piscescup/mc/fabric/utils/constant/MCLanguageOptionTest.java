@@ -0,0 +1,44 @@
+package io.github.piscescup.mc.fabric.utils.constant;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static io.github.piscescup.mc.fabric.utils.constant.MCLanguageOption.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class MCLanguageOptionTest {
+
+    @Test
+    public void testFromLangCode() {
+        for (MCLanguageOption lang : LANGUAGES) {
+            assertEquals(lang, fromLangCode(lang.getCode()));
+        }
+        assertEquals(EN_US, fromLangCode("not_a_language"));
+        assertEquals(Optional.empty(), findByLangCode("not_a_language"));
+    }
+
+    @Test
+    public void testDefaultFallbackChains() {
+        assertEquals(List.of(ZH_HK, ZH_TW, ZH_CN, EN_US), ZH_HK.getFallbackChain());
+        assertEquals(List.of(EN_GB, EN_US), EN_GB.getFallbackChain());
+        assertEquals(List.of(EN_US), EN_US.getFallbackChain());
+        assertEquals(Optional.empty(), EN_US.getFallback());
+    }
+
+    @Test
+    public void testSetFallback() {
+        try {
+            setFallback(FR_CA, EN_GB);
+            assertEquals(List.of(FR_CA, EN_GB, EN_US), FR_CA.getFallbackChain());
+
+            assertThrows(IllegalArgumentException.class, () -> setFallback(ZH_CN, ZH_HK));
+            assertThrows(IllegalArgumentException.class, () -> setFallback(EN_US, ZH_CN));
+        } finally {
+            setFallback(FR_CA, FR_FR);
+        }
+        assertEquals(List.of(FR_CA, FR_FR, EN_US), FR_CA.getFallbackChain());
+    }
+}